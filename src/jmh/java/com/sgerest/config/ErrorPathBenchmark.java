@@ -0,0 +1,92 @@
+package com.sgerest.config;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.sgerest.exception.ApiErrorResponse;
+import com.sgerest.exception.ArgumentNotFoundException;
+
+/**
+ * Custo de uma resposta 404 de domínio, do lançamento da exceção até o
+ * {@link ApiErrorResponse}. {@code legado} reproduz o caminho anterior (stack trace
+ * completo e path via {@code getDescription().replace()}); {@code atual} usa as
+ * exceções de domínio e o handler.
+ * A profundidade simula a pilha de uma requisição real (filtros, proxies, AOP).
+ *
+ * <p>
+ * Para ver as alocações por operação (gc.alloc.rate.norm):
+ * {@code ./mvnw -Pjmh verify -Djmh.args="ErrorPathBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorPathBenchmark {
+
+    @Param({ "20", "120" })
+    public int profundidade;
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/titulos/999"));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> legado() {
+        try {
+            lancar(profundidade, true);
+            throw new IllegalStateException();
+        } catch (RuntimeException ex) {
+            ApiErrorResponse response = new ApiErrorResponse(
+                    LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME),
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", ""));
+            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> atual() {
+        try {
+            lancar(profundidade, false);
+            throw new IllegalStateException();
+        } catch (ArgumentNotFoundException ex) {
+            return handler.handleArgumentNotFoundException(ex, request);
+        }
+    }
+
+    private static void lancar(int profundidade, boolean comStackTrace) {
+        if (profundidade > 0) {
+            lancar(profundidade - 1, comStackTrace);
+            return;
+        }
+        String message = "Título com ID 999 não encontrado.";
+        throw comStackTrace ? new RuntimeException(message) : new ArgumentNotFoundException(message);
+    }
+}
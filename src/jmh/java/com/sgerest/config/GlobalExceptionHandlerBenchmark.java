@@ -0,0 +1,51 @@
+package com.sgerest.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.sgerest.exception.ApiErrorResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ServletWebRequest request;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/titulos/999");
+        servletRequest.setRemoteAddr("10.0.0.1");
+        request = new ServletWebRequest(servletRequest);
+    }
+
+    @Benchmark
+    public String extractPath() {
+        return handler.extractPath(request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> buildResponse() {
+        return handler.buildResponse(HttpStatus.NOT_FOUND, "Not Found", "Título com ID 999 não encontrado.",
+                request);
+    }
+}
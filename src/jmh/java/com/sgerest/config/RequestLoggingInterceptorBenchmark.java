@@ -0,0 +1,47 @@
+package com.sgerest.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestLoggingInterceptorBenchmark {
+
+    private RequestLoggingInterceptor interceptor;
+    private MockHttpServletRequest direta;
+    private MockHttpServletRequest viaProxy;
+
+    @Setup
+    public void setUp() {
+        interceptor = new RequestLoggingInterceptor(null);
+        direta = new MockHttpServletRequest("GET", "/api/v1/titulos/1");
+        direta.setRemoteAddr("10.0.0.1");
+        viaProxy = new MockHttpServletRequest("GET", "/api/v1/titulos/1");
+        viaProxy.addHeader("X-Forwarded-For", "203.0.113.7, 198.51.100.2, 10.0.0.1");
+    }
+
+    @Benchmark
+    public String clientIpDireto() {
+        return interceptor.getClientIp(direta);
+    }
+
+    @Benchmark
+    public String clientIpViaProxy() {
+        return interceptor.getClientIp(viaProxy);
+    }
+}
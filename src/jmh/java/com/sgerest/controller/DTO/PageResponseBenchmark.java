@@ -0,0 +1,59 @@
+package com.sgerest.controller.DTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageResponseBenchmark {
+
+    @Param({ "20", "1000", "10000" })
+    public int tamanho;
+
+    private Page<TituloDTOResponse> page;
+    private SliceImpl<TituloDTOResponse> slice;
+
+    @Setup
+    public void setUp() {
+        List<TituloDTOResponse> content = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            content.add(new TituloDTOResponse((long) i, "Título " + i, 0L));
+        }
+        PageRequest pageable = PageRequest.of(3, tamanho);
+        page = new PageImpl<>(content, pageable, 100L * tamanho);
+        slice = new SliceImpl<>(content, pageable, true);
+    }
+
+    @Benchmark
+    public PageResponse<TituloDTOResponse> ofPage() {
+        return PageResponse.of(page);
+    }
+
+    @Benchmark
+    public PageResponse<TituloDTOResponse> ofSlice() {
+        return PageResponse.of(slice);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sgerest.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+
+/**
+ * Tempo para serializar uma página de títulos em cada formato negociável, com e
+ * sem gzip. Os bytes de cada combinação (o que vai pela rede) são impressos no
+ * setup de cada trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatoBinarioBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int tamanho;
+
+    @Param({ "json", "cbor", "smile" })
+    public String formato;
+
+    private ObjectMapper mapper;
+    private PageResponse<TituloDTOResponse> pagina;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (formato) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+        List<TituloDTOResponse> content = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            content.add(new TituloDTOResponse((long) i, "Doutor em Ciência da Computação " + i, 0L));
+        }
+        pagina = PageResponse.of(new PageImpl<>(content, PageRequest.of(0, tamanho), 100L * tamanho));
+
+        System.out.printf("%n[bytes] formato=%s tamanho=%d bruto=%d gzip=%d%n",
+                formato, tamanho, serializar().length, serializarComGzip().length);
+    }
+
+    @Benchmark
+    public byte[] serializar() {
+        return mapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] serializarComGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(gzip, pagina);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,61 @@
+package com.sgerest.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonSerializationBenchmark {
+
+    @Param({ "20", "1000" })
+    public int tamanho;
+
+    private JsonMapper jsonMapper;
+    private TituloDTOResponse titulo;
+    private PageResponse<TituloDTOResponse> pagina;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        titulo = new TituloDTOResponse(42L, "Doutor em Ciência da Computação", 3L);
+        List<TituloDTOResponse> content = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            content.add(new TituloDTOResponse((long) i, "Título " + i, 0L));
+        }
+        pagina = PageResponse.of(new PageImpl<>(content, PageRequest.of(0, tamanho), 100L * tamanho));
+    }
+
+    @Benchmark
+    public byte[] serializarTitulo() {
+        return jsonMapper.writeValueAsBytes(titulo);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() {
+        return jsonMapper.writeValueAsBytes(pagina);
+    }
+}
@@ -0,0 +1,58 @@
+package com.sgerest.domain.cache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sgerest.controller.DTO.titulo.TituloSugestaoResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TituloSugestaoIndexBenchmark {
+
+    private static final String[] PREFIXOS = { "Doutor", "Mestre", "Especialista", "Bacharel" };
+
+    @Param({ "100000", "1000000" })
+    private int entradas;
+
+    private TituloSugestaoIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new TituloSugestaoIndex(null);
+        index.carregar(LongStream.range(0, entradas)
+                .mapToObj(id -> new TituloSugestaoResponse(id,
+                        PREFIXOS[(int) (id % PREFIXOS.length)] + " em Área " + id)));
+    }
+
+    @Benchmark
+    public List<TituloSugestaoResponse> prefixoCurto() {
+        return index.sugerir("dou", 10);
+    }
+
+    @Benchmark
+    public List<TituloSugestaoResponse> prefixoSeletivo() {
+        return index.sugerir("Mestre em área 4242", 10);
+    }
+
+    @Benchmark
+    public List<TituloSugestaoResponse> semResultado() {
+        return index.sugerir("xyz", 10);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sgerest.domain.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sgerest.SgeRestApplication;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.domain.entities.TituloEntity;
+
+/**
+ * Página de títulos lida como entidades gerenciadas e mapeada depois (caminho
+ * antigo de {@code listarTodos}) contra a projeção direta em DTO, ambas em
+ * transação somente leitura e com o COUNT(*) da página, sobre o H2 do perfil de
+ * teste. Os caches de segundo nível e de consultas ficam desligados: com eles, a
+ * projeção mediria acertos no cache de consultas e não a leitura. Use
+ * {@code -prof gc} para comparar a alocação por operação.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TituloLeituraBenchmark {
+
+    private static final int TITULOS = 5_000;
+
+    @Param({ "20", "1000" })
+    private int tamanhoPagina;
+
+    private ConfigurableApplicationContext contexto;
+    private TituloRepository tituloRepository;
+    private TransactionTemplate somenteLeitura;
+    private Pageable pagina;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(SgeRestApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--logging.level.root=ERROR",
+                        "--logging.level.com.sgerest=ERROR");
+        tituloRepository = contexto.getBean(TituloRepository.class);
+        somenteLeitura = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        somenteLeitura.setReadOnly(true);
+
+        List<TituloEntity> titulos = new ArrayList<>(TITULOS);
+        for (int i = 0; i < TITULOS; i++) {
+            TituloEntity titulo = new TituloEntity();
+            titulo.setDescricao("Título de benchmark " + i);
+            titulos.add(titulo);
+        }
+        tituloRepository.saveAll(titulos);
+        pagina = PageRequest.of(1, tamanhoPagina, Sort.by("id"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<TituloDTOResponse> entidadesMapeadas() {
+        return somenteLeitura.execute(status -> tituloRepository.findAll(pagina)
+                .map(t -> new TituloDTOResponse(t.getId(), t.getDescricao(), t.getVersao()))
+                .getContent());
+    }
+
+    @Benchmark
+    public List<TituloDTOResponse> projecaoDTO() {
+        return somenteLeitura.execute(status -> tituloRepository.findAllDTO(pagina).getContent());
+    }
+}
@@ -0,0 +1,60 @@
+package com.sgerest.domain.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.domain.entities.TituloEntity;
+
+/**
+ * Só o mapeamento entidade -> DTO de uma página, nos mesmos tamanhos do
+ * {@code TituloLeituraBenchmark}: é a parte de {@code entidadesMapeadas} que a
+ * projeção direta elimina, separada do custo da consulta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TituloServiceBenchmark {
+
+    @Param({ "20", "1000" })
+    private int tamanhoPagina;
+
+    private List<TituloEntity> pagina;
+
+    @Setup
+    public void setUp() {
+        pagina = new ArrayList<>(tamanhoPagina);
+        for (int i = 0; i < tamanhoPagina; i++) {
+            TituloEntity titulo = new TituloEntity();
+            titulo.setId((long) i);
+            titulo.setDescricao("Título de benchmark " + i);
+            titulo.setVersao(3L);
+            pagina.add(titulo);
+        }
+    }
+
+    @Benchmark
+    public List<TituloDTOResponse> mapToDTO() {
+        List<TituloDTOResponse> dtos = new ArrayList<>(pagina.size());
+        for (TituloEntity titulo : pagina) {
+            dtos.add(TituloService.mapToDTO(titulo));
+        }
+        return dtos;
+    }
+}
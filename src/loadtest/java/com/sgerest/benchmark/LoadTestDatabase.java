@@ -0,0 +1,102 @@
+package com.sgerest.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Banco usado pelos testes de carga, escolhido com {@code -Dloadtest.db}:
+ * <ul>
+ * <li>{@code postgres} (padrão): binário do PostgreSQL iniciado localmente em
+ * diretório temporário, com o schema criado pelas migrations do Flyway;</li>
+ * <li>{@code h2}: H2 em memória no modo PostgreSQL, schema gerado pelo Hibernate;</li>
+ * <li>{@code external}: usa {@code spring.datasource.*} informados na linha de
+ * comando, sem criar schema.</li>
+ * </ul>
+ */
+final class LoadTestDatabase implements AutoCloseable {
+
+    private final String tipo;
+    private final EmbeddedPostgres postgres;
+
+    private LoadTestDatabase(String tipo, EmbeddedPostgres postgres) {
+        this.tipo = tipo;
+        this.postgres = postgres;
+    }
+
+    static LoadTestDatabase iniciar() {
+        String tipo = System.getProperty("loadtest.db", "postgres");
+        return switch (tipo) {
+            case "postgres" -> postgres();
+            case "h2", "external" -> new LoadTestDatabase(tipo, null);
+            default -> throw new IllegalArgumentException("loadtest.db inválido: " + tipo);
+        };
+    }
+
+    /**
+     * PostgreSQL local independente de {@code loadtest.db}, para os testes que
+     * exercitam o SQL nativo do dialeto.
+     */
+    static LoadTestDatabase postgres() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Flyway.configure().dataSource(postgres.getPostgresDatabase()).load().migrate();
+            return new LoadTestDatabase("postgres", postgres);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao iniciar o PostgreSQL local", e);
+        }
+    }
+
+    String tipo() {
+        return tipo;
+    }
+
+    /**
+     * Propriedades do Spring Boot que apontam a aplicação para este banco.
+     */
+    Map<String, String> propriedades() {
+        Map<String, String> propriedades = new LinkedHashMap<>();
+        switch (tipo) {
+            case "postgres" -> {
+                propriedades.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+                propriedades.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+                propriedades.put("spring.datasource.username", "postgres");
+                propriedades.put("spring.datasource.password", "");
+                propriedades.put("spring.jpa.database-platform", "org.hibernate.dialect.PostgreSQLDialect");
+                propriedades.put("spring.jpa.hibernate.ddl-auto", "none");
+            }
+            case "h2" -> {
+                propriedades.put("spring.datasource.url",
+                        "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+                propriedades.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+            }
+            default -> {
+                propriedades.put("spring.jpa.database-platform", "org.hibernate.dialect.PostgreSQLDialect");
+                propriedades.put("spring.jpa.hibernate.ddl-auto", "none");
+            }
+        }
+        return propriedades;
+    }
+
+    /**
+     * As mesmas {@link #propriedades()} como argumentos de linha de comando.
+     */
+    List<String> argumentos() {
+        return propriedades().entrySet().stream()
+                .map(propriedade -> "--" + propriedade.getKey() + "=" + propriedade.getValue())
+                .toList();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+}
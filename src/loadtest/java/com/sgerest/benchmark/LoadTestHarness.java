@@ -0,0 +1,260 @@
+package com.sgerest.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.sgerest.SgeRestApplication;
+
+/**
+ * Gera carga HTTP real contra {@code /api/v1/titulos} com vários clientes
+ * concorrentes e uma mistura configurável de operações.
+ *
+ * <p>
+ * Antes da carga são cadastrados {@code titulosIniciais} títulos; GET e PUT usam
+ * esses IDs, e DELETE remove títulos criados pelos POSTs da própria carga (sem
+ * nenhum disponível, o cliente faz um POST no lugar). As descrições levam um
+ * prefixo por instância, para que várias execuções possam usar o mesmo banco.
+ */
+final class LoadTestHarness {
+
+    enum Operacao {
+        POST(201), GET(200), PUT(200), DELETE(204), LIST(200);
+
+        final int statusEsperado;
+
+        Operacao(int statusEsperado) {
+            this.statusEsperado = statusEsperado;
+        }
+    }
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final String base;
+    private final HttpClient client;
+    private final Map<Operacao, Integer> mix;
+    private final int pesoTotal;
+    private final String prefixo = Long.toString(System.nanoTime(), 36);
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ConcurrentLinkedQueue<Long> criados = new ConcurrentLinkedQueue<>();
+    private long[] iniciais = new long[0];
+
+    LoadTestHarness(String base, Map<Operacao, Integer> mix) {
+        this.base = base;
+        this.mix = new EnumMap<>(mix);
+        this.pesoTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (pesoTotal <= 0) {
+            throw new IllegalArgumentException("A mistura de operações deve ter peso positivo.");
+        }
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Sobe a aplicação em porta aleatória com os argumentos informados.
+     */
+    static ConfigurableApplicationContext iniciarAplicacao(LoadTestDatabase banco, String... extras) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--logging.level.com.sgerest=WARN",
+                "--sge.access-log.sample-rate=0"));
+        args.addAll(banco.argumentos());
+        args.addAll(List.of(extras));
+        return new SpringApplicationBuilder(SgeRestApplication.class).run(args.toArray(String[]::new));
+    }
+
+    static String urlBase(ConfigurableApplicationContext context) {
+        int porta = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + porta + "/api/v1/titulos";
+    }
+
+    /**
+     * Lê uma mistura no formato {@code post=10,get=60,put=20,delete=10}.
+     */
+    static Map<Operacao, Integer> parseMix(String valor) {
+        Map<Operacao, Integer> mix = new LinkedHashMap<>();
+        for (String parte : valor.split(",")) {
+            String[] chaveValor = parte.trim().split("=");
+            if (chaveValor.length != 2) {
+                throw new IllegalArgumentException("Mistura inválida: " + valor);
+            }
+            mix.put(Operacao.valueOf(chaveValor[0].trim().toUpperCase()), Integer.parseInt(chaveValor[1].trim()));
+        }
+        return mix;
+    }
+
+    void popular(int quantidade) throws Exception {
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int inicio = 0; inicio < quantidade; inicio += 1000) {
+            StringBuilder corpo = new StringBuilder("[");
+            for (int i = inicio; i < Math.min(inicio + 1000, quantidade); i++) {
+                corpo.append(i == inicio ? "" : ",")
+                        .append("{\"descricao\": \"Carga ").append(prefixo).append(" inicial ").append(i).append("\"}");
+            }
+            corpo.append(']');
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo.toString()))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Falha ao popular a base: HTTP " + response.statusCode());
+            }
+            for (JsonNode item : JSON.readTree(response.body()).get("itens")) {
+                if (item.hasNonNull("id")) {
+                    ids.add(item.get("id").asLong());
+                }
+            }
+        }
+        iniciais = ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    LoadTestResult executar(int clientes, Duration duracao) throws Exception {
+        long fim = System.nanoTime() + duracao.toNanos();
+        List<Future<Map<Operacao, Amostras>>> futuros = new ArrayList<>(clientes);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clientes; c++) {
+                futuros.add(executor.submit(() -> cliente(fim)));
+            }
+        }
+
+        Map<Operacao, Amostras> total = new EnumMap<>(Operacao.class);
+        for (Future<Map<Operacao, Amostras>> futuro : futuros) {
+            futuro.get().forEach((operacao, amostras) -> total
+                    .computeIfAbsent(operacao, o -> new Amostras())
+                    .juntar(amostras));
+        }
+        Map<Operacao, LoadTestResult.Estatisticas> estatisticas = new EnumMap<>(Operacao.class);
+        Amostras todas = new Amostras();
+        total.forEach((operacao, amostras) -> {
+            estatisticas.put(operacao, amostras.estatisticas(duracao));
+            todas.juntar(amostras);
+        });
+        return new LoadTestResult(clientes, duracao, estatisticas, todas.estatisticas(duracao));
+    }
+
+    private Map<Operacao, Amostras> cliente(long fim) throws Exception {
+        Map<Operacao, Amostras> amostras = new EnumMap<>(Operacao.class);
+        while (System.nanoTime() < fim) {
+            Operacao operacao = sortear();
+            HttpRequest request = requisicao(operacao);
+            if (request == null) {
+                operacao = Operacao.POST;
+                request = requisicao(operacao);
+            }
+            long inicio = System.nanoTime();
+            int status;
+            String corpo;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                corpo = response.body();
+            } catch (IOException e) {
+                status = -1;
+                corpo = null;
+            }
+            long latencia = System.nanoTime() - inicio;
+            boolean erro = status != operacao.statusEsperado;
+            amostras.computeIfAbsent(operacao, o -> new Amostras()).adicionar(latencia, erro);
+            if (operacao == Operacao.POST && !erro) {
+                criados.add(JSON.readTree(corpo).get("id").asLong());
+            }
+        }
+        return amostras;
+    }
+
+    private Operacao sortear() {
+        int sorteio = ThreadLocalRandom.current().nextInt(pesoTotal);
+        for (Map.Entry<Operacao, Integer> entrada : mix.entrySet()) {
+            sorteio -= entrada.getValue();
+            if (sorteio < 0) {
+                return entrada.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private HttpRequest requisicao(Operacao operacao) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operacao) {
+            case POST -> HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"descricao\": \"Carga " + prefixo + " " + sequencia.incrementAndGet() + "\"}"))
+                    .build();
+            case GET -> HttpRequest.newBuilder(URI.create(base + "/" + idInicial(random))).GET().build();
+            case PUT -> HttpRequest.newBuilder(URI.create(base + "/" + idInicial(random)))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"descricao\": \"Carga " + prefixo + " atualizada " + sequencia.incrementAndGet() + "\"}"))
+                    .build();
+            case DELETE -> {
+                Long id = criados.poll();
+                yield id == null ? null : HttpRequest.newBuilder(URI.create(base + "/" + id)).DELETE().build();
+            }
+            case LIST -> HttpRequest.newBuilder(URI.create(random.nextBoolean()
+                    ? base + "?page=" + random.nextInt(20) + "&size=20"
+                    : base + "?after=&size=20")).GET().build();
+        };
+    }
+
+    private long idInicial(ThreadLocalRandom random) {
+        if (iniciais.length == 0) {
+            throw new IllegalStateException("GET e PUT exigem títulos iniciais (loadtest.titulos > 0).");
+        }
+        return iniciais[random.nextInt(iniciais.length)];
+    }
+
+    private static final class Amostras {
+
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private long erros;
+
+        void adicionar(long latencia, boolean erro) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = latencia;
+            if (erro) {
+                erros++;
+            }
+        }
+
+        void juntar(Amostras outras) {
+            for (int i = 0; i < outras.quantidade; i++) {
+                adicionar(outras.latencias[i], false);
+            }
+            erros += outras.erros;
+        }
+
+        LoadTestResult.Estatisticas estatisticas(Duration duracao) {
+            long[] ordenadas = Arrays.copyOf(latencias, quantidade);
+            Arrays.sort(ordenadas);
+            return LoadTestResult.Estatisticas.de(ordenadas, erros, duracao);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sgerest.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Resultado de uma execução do {@link LoadTestHarness}: vazão, percentis de
+ * latência e taxa de erro por operação e no total.
+ */
+record LoadTestResult(
+        int clientes,
+        Duration duracao,
+        Map<LoadTestHarness.Operacao, Estatisticas> operacoes,
+        Estatisticas total) {
+
+    record Estatisticas(
+            long requisicoes,
+            long erros,
+            double rps,
+            double taxaErro,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs) {
+
+        static Estatisticas de(long[] latenciasOrdenadas, long erros, Duration duracao) {
+            long requisicoes = latenciasOrdenadas.length;
+            return new Estatisticas(
+                    requisicoes,
+                    erros,
+                    requisicoes / (duracao.toMillis() / 1000.0),
+                    requisicoes == 0 ? 0 : (double) erros / requisicoes,
+                    percentil(latenciasOrdenadas, 0.50),
+                    percentil(latenciasOrdenadas, 0.95),
+                    percentil(latenciasOrdenadas, 0.99),
+                    percentil(latenciasOrdenadas, 1.0));
+        }
+
+        private static double percentil(long[] ordenadas, double p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+            return ordenadas[Math.max(indice, 0)] / 1_000_000.0;
+        }
+    }
+
+    String formatar(String titulo) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%s (%d clientes, %s)%n", titulo, clientes, duracao));
+        sb.append(String.format("%-8s %10s %10s %8s %9s %9s %9s %9s%n",
+                "op", "req", "req/s", "erro%", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        operacoes.forEach((operacao, e) -> sb.append(linha(operacao.name(), e)));
+        sb.append(linha("TOTAL", total));
+        return sb.toString();
+    }
+
+    void salvar(Path arquivo, Map<String, Object> contexto) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>(contexto);
+        json.put("clientes", clientes);
+        json.put("duracaoSegundos", duracao.toSeconds());
+        json.put("operacoes", operacoes);
+        json.put("total", total);
+        Files.createDirectories(arquivo.getParent());
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(arquivo.toFile(), json);
+    }
+
+    private static String linha(String nome, Estatisticas e) {
+        return String.format("%-8s %10d %10.1f %8.2f %9.2f %9.2f %9.2f %9.2f%n", nome, e.requisicoes(), e.rps(),
+                e.taxaErro() * 100, e.p50Ms(), e.p95Ms(), e.p99Ms(), e.maxMs());
+    }
+}
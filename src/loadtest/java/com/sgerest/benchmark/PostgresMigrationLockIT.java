@@ -0,0 +1,158 @@
+package com.sgerest.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import com.sgerest.controller.DTO.maintenance.MigrationJobResponse;
+import com.sgerest.domain.services.DatabaseMigrationService;
+import com.sgerest.domain.services.MigrationAdvisoryLock;
+import com.sgerest.domain.services.MigrationProgressCallback;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Jobs de migração de "instâncias" diferentes (cada uma com seu
+ * {@link MigrationAdvisoryLock}) disputando o advisory lock de um PostgreSQL real.
+ * Rode com {@code ./mvnw -Pbenchmark verify -Dtest.groups=postgres -Dit.test=PostgresMigrationLockIT}.
+ */
+@Tag("postgres")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Lock de migrações no PostgreSQL")
+class PostgresMigrationLockIT {
+
+    private static final LoadTestDatabase BANCO = LoadTestDatabase.postgres();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        BANCO.propriedades().forEach((nome, valor) -> registry.add(nome, () -> valor));
+    }
+
+    @AfterAll
+    static void encerrar() throws IOException {
+        BANCO.close();
+    }
+
+    @Autowired
+    private DataSourceProperties properties;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Deve concluir um job e ignorar ou segurar os concorrentes sem ocupar o pool")
+    void testJobsConcorrentes() throws Exception {
+        CountDownLatch migrando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        DatabaseMigrationService primeira = instancia(flywayBloqueado(migrando, liberar), Duration.ofMinutes(1));
+        DatabaseMigrationService semEspera = instancia(flyway(), Duration.ofSeconds(1));
+        DatabaseMigrationService comEspera = instancia(flyway(), Duration.ofMinutes(1));
+        try {
+            MigrationJobResponse vencedor = primeira.iniciarMigracao();
+            assertTrue(migrando.await(30, TimeUnit.SECONDS));
+
+            MigrationJobResponse ignorado = aguardar(semEspera, semEspera.iniciarMigracao(),
+                    job -> job.finishedAt() != null);
+            assertEquals("IGNORADO", ignorado.status());
+
+            MigrationJobResponse esperando = aguardar(comEspera, comEspera.iniciarMigracao(),
+                    job -> job.lockWaitMillis() >= 1000);
+            assertEquals("AGUARDANDO_LOCK", esperando.status());
+
+            assertEquals(0, ((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections());
+            assertEquals(1, new JdbcTemplate(dataSource).queryForObject(
+                    "select count(*) from pg_locks where locktype = 'advisory' and granted", Integer.class));
+
+            liberar.countDown();
+            assertEquals("CONCLUIDO", aguardar(primeira, vencedor, job -> job.finishedAt() != null).status());
+            MigrationJobResponse seguinte = aguardar(comEspera, esperando, job -> job.finishedAt() != null);
+            assertEquals("CONCLUIDO", seguinte.status());
+            assertEquals(0, seguinte.migrationsExecuted());
+            assertEquals(0, new JdbcTemplate(dataSource).queryForObject(
+                    "select count(*) from pg_locks where locktype = 'advisory'", Integer.class));
+        } finally {
+            liberar.countDown();
+            primeira.encerrar();
+            semEspera.encerrar();
+            comEspera.encerrar();
+        }
+    }
+
+    private DatabaseMigrationService instancia(Flyway flyway, Duration esperaLock) {
+        return new DatabaseMigrationService(flyway, new MigrationAdvisoryLock(properties),
+                new MigrationProgressCallback(), esperaLock, 20, "");
+    }
+
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(properties.determineUrl(), properties.determineUsername(), properties.determinePassword())
+                .load();
+    }
+
+    /**
+     * Flyway que, já com o lock, para antes de migrar até {@code liberar}.
+     */
+    private Flyway flywayBloqueado(CountDownLatch migrando, CountDownLatch liberar) {
+        Callback pausa = new Callback() {
+
+            @Override
+            public boolean supports(Event event, Context context) {
+                return event == Event.BEFORE_MIGRATE;
+            }
+
+            @Override
+            public boolean canHandleInTransaction(Event event, Context context) {
+                return true;
+            }
+
+            @Override
+            public void handle(Event event, Context context) {
+                migrando.countDown();
+                try {
+                    liberar.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public String getCallbackName() {
+                return "pausa";
+            }
+        };
+        return Flyway.configure()
+                .dataSource(properties.determineUrl(), properties.determineUsername(), properties.determinePassword())
+                .callbacks(pausa)
+                .load();
+    }
+
+    private static MigrationJobResponse aguardar(DatabaseMigrationService service, MigrationJobResponse job,
+            Predicate<MigrationJobResponse> condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        MigrationJobResponse atual = service.buscarJob(job.id());
+        while (!condicao.test(atual) && System.nanoTime() < limite) {
+            Thread.sleep(50);
+            atual = service.buscarJob(job.id());
+        }
+        return atual;
+    }
+}
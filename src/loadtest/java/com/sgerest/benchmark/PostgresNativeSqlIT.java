@@ -0,0 +1,249 @@
+package com.sgerest.benchmark;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import java.io.IOException;
+import javax.sql.DataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sgerest.config.TestConfig;
+import com.sgerest.controller.DTO.titulo.TituloDTORequest;
+import com.sgerest.domain.repository.TituloRepository;
+
+/**
+ * Caminhos de escrita em SQL nativo do PostgreSQL ({@code ON CONFLICT},
+ * {@code UPDATE ... RETURNING} com versão, exclusão em lote por CTE com
+ * {@code ANY(bigint[])}) e a invalidação de caches que eles exigem, contra o
+ * PostgreSQL local do {@link LoadTestDatabase}. Os ITs com H2 só passam pelo
+ * caminho portável desses métodos. Rode com
+ * {@code ./mvnw -Pbenchmark verify -Dtest.groups=postgres -Dit.test=PostgresNativeSqlIT}.
+ */
+@Tag("postgres")
+@SpringBootTest(properties = "sge.titulos.indice-descricoes.instancia-unica=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Testes de Integração - SQL nativo no PostgreSQL")
+class PostgresNativeSqlIT {
+
+    private static final LoadTestDatabase BANCO = LoadTestDatabase.postgres();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        BANCO.propriedades().forEach((nome, valor) -> registry.add(nome, () -> valor));
+    }
+
+    @AfterAll
+    static void encerrar() throws IOException {
+        BANCO.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TituloRepository tituloRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Deve responder 409 quando o INSERT ... ON CONFLICT encontra a descrição")
+    void testCadastroComConflito() throws Exception {
+        criarTitulo("Pg Conflito");
+
+        mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TituloDTORequest("  pg CONFLITO "))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Deve versionar o UPDATE ... RETURNING: 412 para versão desatualizada e 409 para descrição ocupada")
+    void testAtualizacaoVersionada() throws Exception {
+        Long id = criarTitulo("Pg Versionado");
+        criarTitulo("Pg Ocupado");
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Pg Versionado 2\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.descricao", equalTo("Pg Versionado 2")));
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Pg Versionado 3\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"pg ocupado\"}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/v1/titulos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.descricao", equalTo("Pg Versionado 2")));
+    }
+
+    @Test
+    @DisplayName("Deve excluir em lote pela CTE, contando professores removidos em cascata")
+    void testExclusaoEmLoteComCascata() throws Exception {
+        Long comProfessores = criarTitulo("Pg Cascata 1");
+        Long semProfessores = criarTitulo("Pg Cascata 2");
+        Long professor = criarProfessor(comProfessores, "Pg Professora Um");
+        criarProfessor(comProfessores, "Pg Professora Dois");
+
+        mockMvc.perform(delete("/v1/titulos").param("ids", comProfessores + "," + semProfessores + ",999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.solicitados", equalTo(3)))
+                .andExpect(jsonPath("$.removidos", containsInAnyOrder(
+                        comProfessores.intValue(), semProfessores.intValue())))
+                .andExpect(jsonPath("$.naoEncontrados", contains(999999)))
+                .andExpect(jsonPath("$.professoresRemovidosEmCascata", equalTo(2)));
+
+        mockMvc.perform(get("/v1/titulos/{id}", comProfessores))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/professores/{id}", professor))
+                .andExpect(status().isNotFound());
+        criarTitulo("Pg Cascata 1");
+    }
+
+    @Test
+    @DisplayName("Deve invalidar cache de consultas e segundo nível após escritas nativas")
+    void testCachesRefletemEscritasNativas() throws Exception {
+        Long id = criarTitulo("Pg Cache");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        mockMvc.perform(get("/v1/titulos").param("size", "1000"))
+                .andExpect(jsonPath("$.content[*].descricao", hasItem("Pg Cache")));
+        tituloRepository.findById(id).orElseThrow();
+        statistics.clear();
+        mockMvc.perform(get("/v1/titulos").param("size", "1000"))
+                .andExpect(jsonPath("$.content[*].descricao", hasItem("Pg Cache")));
+        assertEquals("Pg Cache", tituloRepository.findById(id).orElseThrow().getDescricao());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Pg Cache 2\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/titulos").param("size", "1000"))
+                .andExpect(jsonPath("$.content[*].descricao", hasItem("Pg Cache 2")))
+                .andExpect(jsonPath("$.content[*].descricao", not(hasItem("Pg Cache"))));
+        mockMvc.perform(get("/v1/titulos/{id}", id))
+                .andExpect(jsonPath("$.descricao", equalTo("Pg Cache 2")));
+        assertEquals("Pg Cache 2", tituloRepository.findById(id).orElseThrow().getDescricao());
+
+        mockMvc.perform(delete("/v1/titulos").param("ids", id.toString()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/titulos").param("size", "1000"))
+                .andExpect(jsonPath("$.content[*].id", not(hasItem(id.intValue()))));
+        assertTrue(tituloRepository.findById(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs consecutivos para cadastros avulsos e em lote pelo mesmo gerador pooled")
+    void testIdsConsecutivos() throws Exception {
+        Long primeiro = criarTitulo("Pg Sequência 1");
+        Long segundo = criarTitulo("Pg Sequência 2");
+        Long terceiro = criarTitulo("Pg Sequência 3");
+
+        assertEquals(primeiro + 1, segundo);
+        assertEquals(segundo + 1, terceiro);
+        mockMvc.perform(post("/v1/titulos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"descricao\": \"Pg Sequência 4\"}, {\"descricao\": \"Pg Sequência 5\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].id", equalTo((int) (terceiro + 1))))
+                .andExpect(jsonPath("$.itens[1].id", equalTo((int) (terceiro + 2))));
+        assertEquals(terceiro + 3, criarTitulo("Pg Sequência 6"));
+    }
+
+    @Test
+    @DisplayName("Deve cair para inserção item a item quando o lote colide com linha gravada fora da aplicação")
+    void testLoteComTituloGravadoForaDoIndice() throws Exception {
+        new JdbcTemplate(dataSource).update("INSERT INTO titulo (tx_descricao) VALUES ('Pg Fora Do Indice')");
+
+        mockMvc.perform(post("/v1/titulos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"descricao\": \"pg fora do indice\"}, {\"descricao\": \"Pg Lote Novo\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados", equalTo(1)))
+                .andExpect(jsonPath("$.itens[0].status", equalTo("DUPLICADO")))
+                .andExpect(jsonPath("$.itens[1].status", equalTo("CRIADO")))
+                .andExpect(jsonPath("$.itens[1].id", notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar buscas por distância de trigramas")
+    void testBuscaPorTrigramas() throws Exception {
+        criarTitulo("Pg Engenharia de Software Aplicada");
+        Long titulo = criarTitulo("Pg Engenharia");
+        criarProfessor(titulo, "Pg Ana Maria Souza Lima");
+        criarProfessor(titulo, "Pg Maria Souza");
+
+        mockMvc.perform(get("/v1/titulos/search").param("q", "pg engenharia"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].descricao", contains(
+                        "Pg Engenharia", "Pg Engenharia de Software Aplicada")));
+        mockMvc.perform(get("/v1/professores/search").param("q", "maria souza"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].nome", contains("Pg Maria Souza", "Pg Ana Maria Souza Lima")));
+    }
+
+    private Long criarTitulo(String descricao) throws Exception {
+        String resposta = mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TituloDTORequest(descricao))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+
+    private Long criarProfessor(Long tituloId, String nome) throws Exception {
+        String resposta = mockMvc.perform(post("/v1/professores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"tituloId": %d, "nome": "%s", "sexo": "F", "estadoCivil": "C",
+                         "dataNascimento": "1985-03-10", "telefone": "61999990000"}
+                        """.formatted(tituloId, nome)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+}
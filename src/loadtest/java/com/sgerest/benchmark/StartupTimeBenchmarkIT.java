@@ -0,0 +1,231 @@
+package com.sgerest.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Mede o tempo entre iniciar a JVM e o primeiro {@code GET /api/v1/titulos} com
+ * status 200, com o jar empacotado rodando em processo separado:
+ * <ul>
+ * <li>{@code jar}: {@code java -jar} no jar executável, como a imagem padrão;</li>
+ * <li>{@code extraido}: layout extraído ({@code app.jar} + {@code lib/});</li>
+ * <li>{@code cds}: layout extraído com arquivo AppCDS gerado por uma execução de
+ * treino;</li>
+ * <li>{@code aot-cds}: como {@code cds}, com {@code -Dspring.aot.enabled=true}, igual
+ * à imagem {@code fast-startup} do Dockerfile. Só roda se o jar foi gerado com o
+ * perfil {@code aot}.</li>
+ * </ul>
+ *
+ * <p>
+ * Rode com {@code ./mvnw -Pbenchmark,aot verify -Dit.test=StartupTimeBenchmarkIT}.
+ * O jar precisa do banco de verdade, então {@code loadtest.db=h2} não é suportado.
+ * {@code loadtest.startup.repeticoes} (padrão 5) define quantas vezes cada modo
+ * sobe; o relatório usa a mediana.
+ */
+@Tag("benchmark")
+class StartupTimeBenchmarkIT {
+
+    private static final int REPETICOES = Integer.getInteger("loadtest.startup.repeticoes", 5);
+    private static final Duration TIMEOUT = Duration.parse(System.getProperty("loadtest.startup.timeout", "PT2M"));
+    private static final Path DIRETORIO = Path.of("target", "startup");
+    private static final String INICIALIZADOR_AOT = "BOOT-INF/classes/com/sgerest/SgeRestApplication__ApplicationContextInitializer.class";
+
+    /**
+     * Mesmas opções da execução de treino do Dockerfile: o contexto sobe sem banco
+     * e a JVM encerra logo após o refresh.
+     */
+    private static final List<String> TREINO = List.of(
+            "-Dspring.context.exit=onRefresh",
+            "-Dspring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+            "-Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false");
+
+    private final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    @DisplayName("Compara o tempo até o primeiro GET com jar, layout extraído, AppCDS e AOT")
+    void compararModos() throws Exception {
+        Path jar = localizarJar();
+        boolean aot = processadoPorAot(jar);
+        Path extraido = extrair(jar);
+
+        try (LoadTestDatabase banco = LoadTestDatabase.iniciar()) {
+            assumeFalse("h2".equals(banco.tipo()), "O jar empacotado não traz o driver do H2");
+
+            Map<String, List<String>> modos = new LinkedHashMap<>();
+            modos.put("jar", List.of("-jar", jar.toAbsolutePath().toString()));
+            modos.put("extraido", List.of("-jar", "app.jar"));
+            modos.put("cds", List.of("-XX:SharedArchiveFile=" + treinar(extraido, "cds.jsa", false), "-jar", "app.jar"));
+            if (aot) {
+                modos.put("aot-cds", List.of("-XX:SharedArchiveFile=" + treinar(extraido, "aot-cds.jsa", true),
+                        "-Dspring.aot.enabled=true", "-jar", "app.jar"));
+            } else {
+                System.out.println("Jar sem processamento AOT; gere com -Paot para medir o modo aot-cds.");
+            }
+
+            Map<String, Object> resultado = new LinkedHashMap<>();
+            StringBuilder relatorio = new StringBuilder(String.format("%n=== Tempo até o primeiro GET [%s, %d execuções] ===%n",
+                    banco.tipo(), REPETICOES));
+            relatorio.append(String.format("%-10s %10s %10s %10s%n", "modo", "mediana", "min", "max"));
+            for (Map.Entry<String, List<String>> modo : modos.entrySet()) {
+                List<Long> tempos = new ArrayList<>();
+                for (int i = 0; i < REPETICOES; i++) {
+                    tempos.add(medir(modo.getKey(), i, extraido, modo.getValue(), banco));
+                }
+                List<Long> ordenados = tempos.stream().sorted().toList();
+                long mediana = ordenados.get(ordenados.size() / 2);
+                relatorio.append(String.format("%-10s %8dms %8dms %8dms%n", modo.getKey(), mediana,
+                        ordenados.getFirst(), ordenados.getLast()));
+                resultado.put(modo.getKey(), Map.of("medianaMs", mediana, "temposMs", tempos));
+            }
+            System.out.println(relatorio);
+
+            Path arquivo = Path.of("target", "loadtest", "startup.json");
+            Files.createDirectories(arquivo.getParent());
+            JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(arquivo.toFile(),
+                    Map.of("banco", banco.tipo(), "repeticoes", REPETICOES, "modos", resultado));
+        }
+    }
+
+    /**
+     * Sobe a aplicação e devolve os milissegundos até o primeiro 200 em
+     * {@code /api/v1/titulos}.
+     */
+    private long medir(String modo, int execucao, Path diretorio, List<String> opcoes, LoadTestDatabase banco)
+            throws IOException, InterruptedException {
+        int porta = portaLivre();
+        List<String> comando = new ArrayList<>(List.of(java));
+        comando.addAll(opcoes);
+        comando.addAll(List.of(
+                "--spring.profiles.active=prod",
+                "--server.port=" + porta,
+                "--logging.level.com.sgerest=WARN",
+                "--sge.access-log.sample-rate=0"));
+        comando.addAll(banco.argumentos());
+        Path log = DIRETORIO.resolve(modo + "-" + execucao + ".log");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/api/v1/titulos"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long inicio = System.nanoTime();
+        Process processo = new ProcessBuilder(comando)
+                .directory(diretorio.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long limite = inicio + TIMEOUT.toNanos();
+            while (System.nanoTime() < limite) {
+                assertTrue(processo.isAlive(), "A aplicação encerrou antes de responder; veja " + log);
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+                    }
+                } catch (ConnectException e) {
+                    // servidor ainda não abriu a porta
+                }
+                Thread.sleep(10);
+            }
+            return fail("Sem resposta 200 em " + TIMEOUT + "; veja " + log);
+        } finally {
+            processo.destroy();
+            if (!processo.waitFor(30, TimeUnit.SECONDS)) {
+                processo.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * Execução de treino que grava o arquivo AppCDS com as classes carregadas até o
+     * refresh do contexto.
+     */
+    private Path treinar(Path diretorio, String arquivo, boolean aot) throws IOException, InterruptedException {
+        List<String> comando = new ArrayList<>(List.of(java, "-XX:ArchiveClassesAtExit=" + arquivo));
+        comando.addAll(TREINO);
+        if (aot) {
+            comando.add("-Dspring.aot.enabled=true");
+        }
+        comando.addAll(List.of("-jar", "app.jar", "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:postgresql://localhost/treino",
+                "--spring.datasource.username=treino",
+                "--spring.datasource.password=treino"));
+        executar(comando, diretorio, DIRETORIO.resolve("treino-" + arquivo + ".log"));
+        Path archive = diretorio.resolve(arquivo);
+        assertTrue(Files.exists(archive), "Arquivo CDS não gerado: " + archive);
+        return archive.toAbsolutePath();
+    }
+
+    private Path extrair(Path jar) throws IOException, InterruptedException {
+        FileSystemUtils.deleteRecursively(DIRETORIO);
+        Files.createDirectories(DIRETORIO);
+        Path destino = DIRETORIO.resolve("extraido");
+        executar(List.of(java, "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(), "extract",
+                "--application-filename", "app.jar", "--destination", destino.toAbsolutePath().toString()),
+                DIRETORIO, DIRETORIO.resolve("extract.log"));
+        return destino;
+    }
+
+    private static void executar(List<String> comando, Path diretorio, Path log)
+            throws IOException, InterruptedException {
+        Process processo = new ProcessBuilder(comando)
+                .directory(diretorio.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        if (!processo.waitFor(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            processo.destroyForcibly();
+            fail("Comando não terminou em " + TIMEOUT + "; veja " + log);
+        }
+        assertEquals(0, processo.exitValue(), "Comando falhou; veja " + log);
+    }
+
+    private static Path localizarJar() throws IOException {
+        String informado = System.getProperty("loadtest.startup.jar");
+        if (informado != null) {
+            return Path.of(informado);
+        }
+        try (Stream<Path> arquivos = Files.list(Path.of("target"))) {
+            return arquivos.filter(p -> p.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Jar não encontrado em target/; rode com verify ou informe -Dloadtest.startup.jar"));
+        }
+    }
+
+    private static boolean processadoPorAot(Path jar) throws IOException {
+        try (JarFile arquivo = new JarFile(jar.toFile())) {
+            return arquivo.getEntry(INICIALIZADOR_AOT) != null;
+        }
+    }
+
+    private static int portaLivre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
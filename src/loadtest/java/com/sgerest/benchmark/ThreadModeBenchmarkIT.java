@@ -0,0 +1,61 @@
+package com.sgerest.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compara vazão e latência p99 da API com threads de plataforma e com threads
+ * virtuais. Rode com {@code ./mvnw -Pbenchmark verify -Dit.test=ThreadModeBenchmarkIT}.
+ *
+ * <p>
+ * Usa o mesmo banco e parâmetros do {@link TituloLoadTestIT} ({@code loadtest.db},
+ * {@code loadtest.clientes}, {@code loadtest.duracao}, {@code loadtest.aquecimento});
+ * a mistura padrão é só de leitura ({@code list=50,get=50}). Com H2 o banco não
+ * faz I/O e a diferença entre os modos aparece pouco.
+ */
+@Tag("benchmark")
+class ThreadModeBenchmarkIT {
+
+    private static final int CLIENTES = Integer.getInteger("loadtest.clientes", 200);
+    private static final Duration DURACAO = Duration.parse(System.getProperty("loadtest.duracao", "PT15S"));
+    private static final Duration AQUECIMENTO = Duration.parse(System.getProperty("loadtest.aquecimento", "PT5S"));
+    private static final String MIX = System.getProperty("loadtest.mix", "list=50,get=50");
+
+    @Test
+    @DisplayName("Compara threads de plataforma e threads virtuais")
+    void compararModos() throws Exception {
+        try (LoadTestDatabase banco = LoadTestDatabase.iniciar()) {
+            LoadTestResult plataforma = executar(banco, false);
+            LoadTestResult virtual = executar(banco, true);
+
+            System.out.println(plataforma.formatar("Threads de plataforma [" + banco.tipo() + "]"));
+            System.out.println(virtual.formatar("Threads virtuais [" + banco.tipo() + "]"));
+            plataforma.salvar(Path.of("target", "loadtest", "thread-mode-plataforma.json"),
+                    Map.of("banco", banco.tipo(), "mix", MIX, "threadsVirtuais", false));
+            virtual.salvar(Path.of("target", "loadtest", "thread-mode-virtual.json"),
+                    Map.of("banco", banco.tipo(), "mix", MIX, "threadsVirtuais", true));
+
+            assertTrue(plataforma.total().requisicoes() > 0);
+            assertTrue(virtual.total().requisicoes() > 0);
+        }
+    }
+
+    private LoadTestResult executar(LoadTestDatabase banco, boolean threadsVirtuais) throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestHarness.iniciarAplicacao(banco,
+                "--spring.threads.virtual.enabled=" + threadsVirtuais)) {
+            LoadTestHarness harness = new LoadTestHarness(LoadTestHarness.urlBase(context),
+                    LoadTestHarness.parseMix(MIX));
+            harness.popular(500);
+            harness.executar(CLIENTES, AQUECIMENTO);
+            return harness.executar(CLIENTES, DURACAO);
+        }
+    }
+}
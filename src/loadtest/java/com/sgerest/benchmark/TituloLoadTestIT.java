@@ -0,0 +1,73 @@
+package com.sgerest.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Teste de carga HTTP do CRUD de títulos contra a aplicação real em servidor
+ * embarcado. Rode com {@code ./mvnw -Pbenchmark verify -Dit.test=TituloLoadTestIT}.
+ *
+ * <p>
+ * Parâmetros (propriedades de sistema):
+ * <ul>
+ * <li>{@code loadtest.db}: {@code postgres} (padrão), {@code h2} ou {@code external};</li>
+ * <li>{@code loadtest.clientes} (100), {@code loadtest.duracao} (PT30S),
+ * {@code loadtest.aquecimento} (PT10S), {@code loadtest.titulos} (1000);</li>
+ * <li>{@code loadtest.mix}: pesos por operação, padrão
+ * {@code post=10,get=60,put=20,delete=10} (também aceita {@code list});</li>
+ * <li>gates: {@code loadtest.max-error-rate} (0.01), {@code loadtest.max-p99-ms}
+ * e {@code loadtest.min-rps} (desligados se ausentes).</li>
+ * </ul>
+ * O relatório é impresso e salvo em {@code target/loadtest/titulo-crud.json}.
+ */
+@Tag("benchmark")
+class TituloLoadTestIT {
+
+    private static final int CLIENTES = Integer.getInteger("loadtest.clientes", 100);
+    private static final Duration DURACAO = Duration.parse(System.getProperty("loadtest.duracao", "PT30S"));
+    private static final Duration AQUECIMENTO = Duration.parse(System.getProperty("loadtest.aquecimento", "PT10S"));
+    private static final int TITULOS = Integer.getInteger("loadtest.titulos", 1000);
+    private static final String MIX = System.getProperty("loadtest.mix", "post=10,get=60,put=20,delete=10");
+
+    @Test
+    @DisplayName("Carga mista de POST/GET/PUT/DELETE em /api/v1/titulos")
+    void cargaCrud() throws Exception {
+        LoadTestResult resultado;
+        try (LoadTestDatabase banco = LoadTestDatabase.iniciar();
+                ConfigurableApplicationContext context = LoadTestHarness.iniciarAplicacao(banco)) {
+            LoadTestHarness harness = new LoadTestHarness(LoadTestHarness.urlBase(context),
+                    LoadTestHarness.parseMix(MIX));
+            harness.popular(TITULOS);
+            harness.executar(CLIENTES, AQUECIMENTO);
+            resultado = harness.executar(CLIENTES, DURACAO);
+
+            System.out.println(resultado.formatar("Carga CRUD de títulos [" + banco.tipo() + ", " + MIX + "]"));
+            resultado.salvar(Path.of("target", "loadtest", "titulo-crud.json"),
+                    Map.of("banco", banco.tipo(), "mix", MIX, "titulosIniciais", TITULOS));
+        }
+
+        LoadTestResult.Estatisticas total = resultado.total();
+        assertTrue(total.requisicoes() > 0, "Nenhuma requisição concluída");
+        double maxErro = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        assertTrue(total.taxaErro() <= maxErro,
+                () -> "Taxa de erro " + total.taxaErro() + " acima do limite " + maxErro);
+        String maxP99 = System.getProperty("loadtest.max-p99-ms");
+        if (maxP99 != null) {
+            assertTrue(total.p99Ms() <= Double.parseDouble(maxP99),
+                    () -> "p99 de " + total.p99Ms() + " ms acima do limite " + maxP99 + " ms");
+        }
+        String minRps = System.getProperty("loadtest.min-rps");
+        if (minRps != null) {
+            assertTrue(total.rps() >= Double.parseDouble(minRps),
+                    () -> "Vazão de " + total.rps() + " req/s abaixo do mínimo " + minRps);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.sgerest.config;
+
+/**
+ * Evento de log de acesso reutilizável. Instâncias são pré-alocadas pelo
+ * {@link AccessLogWriter} e circulam entre a thread da requisição, que preenche
+ * os campos, e a thread de escrita, que formata a linha e devolve o evento.
+ */
+final class AccessLogEvent {
+
+    long timestampMillis;
+    long latenciaNanos;
+    String ip;
+    String metodo;
+    String uri;
+    int status;
+    String erro;
+
+    void limpar() {
+        ip = null;
+        metodo = null;
+        uri = null;
+        erro = null;
+    }
+}
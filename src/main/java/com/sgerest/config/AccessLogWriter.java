@@ -0,0 +1,160 @@
+package com.sgerest.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Escreve o log de acesso fora da thread da requisição.
+ *
+ * <p>
+ * Os eventos vêm de um pool pré-alocado de {@code sge.access-log.buffer-size}
+ * posições; a requisição só preenche campos e enfileira, e a formatação da data
+ * e da linha acontece na thread {@code access-log-writer}. Respostas de sucesso
+ * são amostradas com {@code sge.access-log.sample-rate}; erros (4xx, 5xx ou
+ * exceção não tratada) sempre são registrados, e se o pool estiver esgotado são
+ * escritos na própria thread em vez de descartados.
+ */
+@Component
+@Log4j2
+public class AccessLogWriter {
+
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+
+    private final double taxaAmostragem;
+    private final BlockingQueue<AccessLogEvent> livres;
+    private final BlockingQueue<AccessLogEvent> pendentes;
+    private final Thread escritor;
+    private final LongAdder registrados = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private volatile boolean ativo = true;
+
+    public AccessLogWriter(
+            @Value("${sge.access-log.sample-rate:1.0}") double taxaAmostragem,
+            @Value("${sge.access-log.buffer-size:4096}") int tamanhoBuffer) {
+        if (taxaAmostragem < 0 || taxaAmostragem > 1) {
+            throw new IllegalArgumentException("sge.access-log.sample-rate deve estar entre 0 e 1.");
+        }
+        this.taxaAmostragem = taxaAmostragem;
+        this.livres = new ArrayBlockingQueue<>(tamanhoBuffer);
+        this.pendentes = new ArrayBlockingQueue<>(tamanhoBuffer);
+        for (int i = 0; i < tamanhoBuffer; i++) {
+            livres.add(new AccessLogEvent());
+        }
+        this.escritor = Thread.ofPlatform().name("access-log-writer").daemon().start(this::escrever);
+        log.info("Log de acesso assíncrono configurado. Amostragem de sucesso: {}, buffer: {}",
+                taxaAmostragem, tamanhoBuffer);
+    }
+
+    /**
+     * Decide se a resposta entra no log. Erros sempre entram; sucessos conforme a
+     * taxa de amostragem, e nunca quando o nível INFO está desligado.
+     */
+    public boolean amostrar(int status, boolean falhou) {
+        if (falhou || status >= 400) {
+            return true;
+        }
+        if (!log.isInfoEnabled()) {
+            descartados.increment();
+            return false;
+        }
+        if (taxaAmostragem >= 1
+                || (taxaAmostragem > 0 && ThreadLocalRandom.current().nextDouble() < taxaAmostragem)) {
+            return true;
+        }
+        descartados.increment();
+        return false;
+    }
+
+    public void registrar(String ip, String metodo, String uri, int status, long latenciaNanos, String erro) {
+        AccessLogEvent evento = livres.poll();
+        if (evento == null) {
+            if (erro != null || status >= 400) {
+                evento = new AccessLogEvent();
+                preencher(evento, ip, metodo, uri, status, latenciaNanos, erro);
+                escreverLinha(evento);
+                registrados.increment();
+            } else {
+                descartados.increment();
+            }
+            return;
+        }
+        preencher(evento, ip, metodo, uri, status, latenciaNanos, erro);
+        pendentes.add(evento);
+    }
+
+    public long getRegistrados() {
+        return registrados.sum();
+    }
+
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        ativo = false;
+        escritor.interrupt();
+        escritor.join(1000);
+    }
+
+    private static void preencher(AccessLogEvent evento, String ip, String metodo, String uri, int status,
+            long latenciaNanos, String erro) {
+        evento.timestampMillis = System.currentTimeMillis();
+        evento.ip = ip;
+        evento.metodo = metodo;
+        evento.uri = uri;
+        evento.status = status;
+        evento.latenciaNanos = latenciaNanos;
+        evento.erro = erro;
+    }
+
+    private void escrever() {
+        while (ativo || !pendentes.isEmpty()) {
+            AccessLogEvent evento;
+            try {
+                evento = ativo ? pendentes.take() : pendentes.poll();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (evento == null) {
+                return;
+            }
+            try {
+                escreverLinha(evento);
+                registrados.increment();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao escrever log de acesso: {}", e.getMessage());
+            } finally {
+                evento.limpar();
+                livres.offer(evento);
+            }
+        }
+    }
+
+    private static void escreverLinha(AccessLogEvent evento) {
+        String horario = formatter.format(Instant.ofEpochMilli(evento.timestampMillis));
+        double latenciaMillis = evento.latenciaNanos / 1_000_000.0;
+        if (evento.erro != null || evento.status >= 500) {
+            log.error("ACCESS | IP: {} | Método: {} | Rota: {} | Status: {} | Latência: {} ms | Horário: {} | Erro: {}",
+                    evento.ip, evento.metodo, evento.uri, evento.status, latenciaMillis, horario, evento.erro);
+        } else if (evento.status >= 400) {
+            log.warn("ACCESS | IP: {} | Método: {} | Rota: {} | Status: {} | Latência: {} ms | Horário: {}",
+                    evento.ip, evento.metodo, evento.uri, evento.status, latenciaMillis, horario);
+        } else {
+            log.info("ACCESS | IP: {} | Método: {} | Rota: {} | Status: {} | Latência: {} ms | Horário: {}",
+                    evento.ip, evento.metodo, evento.uri, evento.status, latenciaMillis, horario);
+        }
+    }
+}
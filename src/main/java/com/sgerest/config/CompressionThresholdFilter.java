@@ -0,0 +1,220 @@
+package com.sgerest.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Faz valer o {@code server.compression.min-response-size} nas respostas do Spring MVC.
+ *
+ * <p>
+ * O Tomcat só respeita o limite quando conhece o Content-Length no momento do
+ * commit, mas os conversores de mensagem dão flush no fim da escrita e a resposta
+ * sai em chunks, sem tamanho: até um título de 60 bytes seria comprimido. Aqui o
+ * corpo fica em buffer até o limite; se a resposta termina antes, ela sai com
+ * Content-Length e sem gzip, senão o buffer é liberado e o Tomcat comprime o resto
+ * em streaming, como antes.
+ */
+@Component
+@ConditionalOnBooleanProperty("server.compression.enabled")
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    private final int limiar;
+
+    public CompressionThresholdFilter(
+            @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        this.limiar = (int) minResponseSize.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding == null || !acceptEncoding.contains("gzip") || "HEAD".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RespostaComLimiar wrapper = new RespostaComLimiar(response, limiar);
+        chain.doFilter(request, wrapper);
+        if (request.isAsyncStarted()) {
+            // o corpo (StreamingResponseBody) é escrito em outra thread, sem limite de tamanho
+            wrapper.liberar();
+        } else {
+            wrapper.concluir();
+        }
+    }
+
+    private static final class RespostaComLimiar extends HttpServletResponseWrapper {
+
+        private final BufferAteLimiar outputStream;
+
+        private PrintWriter writer;
+
+        RespostaComLimiar(HttpServletResponse response, int limiar) {
+            super(response);
+            this.outputStream = new BufferAteLimiar(response, limiar);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() já foi chamado nesta resposta");
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            outputStream.flush();
+        }
+
+        @Override
+        public void resetBuffer() {
+            outputStream.descartar();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            outputStream.descartar();
+            super.reset();
+        }
+
+        void liberar() throws IOException {
+            outputStream.liberar();
+        }
+
+        void concluir() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            outputStream.concluir();
+        }
+    }
+
+    /**
+     * Guarda até {@code limiar} bytes; ao passar disso, escreve o que acumulou na
+     * resposta real e segue direto. Sincronizado porque, em respostas assíncronas,
+     * a thread do filtro pode liberar o buffer enquanto a do corpo escreve.
+     */
+    private static final class BufferAteLimiar extends ServletOutputStream {
+
+        private final HttpServletResponse response;
+
+        private final int limiar;
+
+        private ByteArrayOutputStream buffer;
+
+        BufferAteLimiar(HttpServletResponse response, int limiar) {
+            this.response = response;
+            this.limiar = limiar;
+            this.buffer = new ByteArrayOutputStream(Math.min(limiar, 512));
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            if (buffer != null && buffer.size() + 1 > limiar) {
+                liberar();
+            }
+            if (buffer != null) {
+                buffer.write(b);
+            } else {
+                response.getOutputStream().write(b);
+            }
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            if (buffer != null && buffer.size() + len > limiar) {
+                liberar();
+            }
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            } else {
+                response.getOutputStream().write(b, off, len);
+            }
+        }
+
+        /** Enquanto o corpo cabe no buffer, o flush não faz commit da resposta. */
+        @Override
+        public synchronized void flush() throws IOException {
+            if (buffer == null) {
+                response.getOutputStream().flush();
+            }
+        }
+
+        @Override
+        public synchronized boolean isReady() {
+            return buffer != null || isReadyReal();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                response.getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        synchronized void descartar() {
+            if (buffer != null) {
+                buffer.reset();
+            }
+        }
+
+        synchronized void liberar() throws IOException {
+            if (buffer == null) {
+                return;
+            }
+            ByteArrayOutputStream acumulado = buffer;
+            buffer = null;
+            if (acumulado.size() > 0) {
+                acumulado.writeTo(response.getOutputStream());
+            }
+        }
+
+        synchronized void concluir() throws IOException {
+            if (buffer != null && buffer.size() > 0) {
+                response.setContentLength(buffer.size());
+            }
+            liberar();
+        }
+
+        private boolean isReadyReal() {
+            try {
+                return response.getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -1,22 +1,30 @@
 package com.sgerest.config;
 
-import javax.sql.DataSource;
-
 import org.flywaydb.core.Flyway;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.sgerest.domain.services.MigrationProgressCallback;
+
+/**
+ * Flyway acionado pelo endpoint de manutenção. Conecta direto no primário, fora do
+ * pool do Hikari, como o {@link com.sgerest.domain.services.MigrationAdvisoryLock}:
+ * uma migração longa não consome conexões das requisições.
+ */
 @Configuration
 public class FlywayConfig {
 
     @Bean
     @ConditionalOnMissingBean(Flyway.class)
     @ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "true", matchIfMissing = true)
-    public Flyway flyway(DataSource dataSource) {
+    public Flyway flyway(DataSourceProperties properties, MigrationProgressCallback progressCallback) {
         return Flyway.configure()
-                .dataSource(dataSource)
+                .driver(properties.determineDriverClassName())
+                .dataSource(properties.determineUrl(), properties.determineUsername(), properties.determinePassword())
+                .callbacks(progressCallback)
                 .load();
     }
 }
@@ -1,5 +1,6 @@
 package com.sgerest.config;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
@@ -7,12 +8,15 @@ import java.util.stream.Collectors;
 import jakarta.validation.ConstraintViolationException;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
@@ -22,6 +26,8 @@ import lombok.extern.log4j.Log4j2;
 
 import com.sgerest.exception.ApiErrorResponse;
 import com.sgerest.exception.ArgumentNotFoundException;
+import com.sgerest.exception.PreconditionFailedException;
+import com.sgerest.exception.ServiceUnavailableException;
 import com.sgerest.exception.TituloAlreadyExistsException;
 
 @ControllerAdvice
@@ -31,17 +37,37 @@ public class GlobalExceptionHandler {
 	@ExceptionHandler(TituloAlreadyExistsException.class)
 	public ResponseEntity<ApiErrorResponse> handleTituloAlreadyExists(
 			TituloAlreadyExistsException ex, WebRequest request) {
-		log.warn("Titulo already exists exception: {}", ex.getMessage());
+		log.debug("Titulo already exists exception: {}", ex.getMessage());
 		return buildResponse(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), request);
 	}
 
 	@ExceptionHandler(ArgumentNotFoundException.class)
 	public ResponseEntity<ApiErrorResponse> handleArgumentNotFoundException(
 			ArgumentNotFoundException ex, WebRequest request) {
-		log.warn("Argument not found exception: {}", ex.getMessage());
+		log.debug("Argument not found exception: {}", ex.getMessage());
 		return buildResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
 	}
 
+	@ExceptionHandler(PreconditionFailedException.class)
+	public ResponseEntity<ApiErrorResponse> handlePreconditionFailed(
+			PreconditionFailedException ex, WebRequest request) {
+		log.debug("Precondition failed: {}", ex.getMessage());
+		return buildResponse(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage(), request);
+	}
+
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ApiErrorResponse> handleServiceUnavailable(
+			ServiceUnavailableException ex, WebRequest request) {
+		ApiErrorResponse response = new ApiErrorResponse(
+				HttpStatus.SERVICE_UNAVAILABLE.value(),
+				"Service Unavailable",
+				ex.getMessage(),
+				extractPath(request));
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(response);
+	}
+
 	@ExceptionHandler(IllegalArgumentException.class)
 	public ResponseEntity<ApiErrorResponse> handleIllegalArgumentException(
 			IllegalArgumentException ex, WebRequest request) {
@@ -52,10 +78,10 @@ public class GlobalExceptionHandler {
 	@ExceptionHandler(DataIntegrityViolationException.class)
 	public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolation(
 			DataIntegrityViolationException ex, WebRequest request) {
-		log.warn("Data integrity violation", ex);
-
 		String message = "Violacao de integridade no banco de dados";
 		String constraintName = resolveConstraintName(ex);
+		log.warn("Data integrity violation: constraint {}", constraintName);
+		log.debug("Data integrity violation", ex);
 		if (constraintName != null && isUniqueConstraint(constraintName)) {
 			message = "Este valor ja esta registrado no banco de dados";
 		}
@@ -69,23 +95,21 @@ public class GlobalExceptionHandler {
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ApiErrorResponse> handleMethodArgumentNotValid(
 			MethodArgumentNotValidException ex, WebRequest request) {
-		log.warn("Validation error", ex);
-
 		String message = buildFieldErrorsMessage(ex);
+		log.warn("Validation error: {}", message);
 		return buildResponse(HttpStatus.BAD_REQUEST, "Validation Error", message, request);
 	}
 
 	@ExceptionHandler(ConstraintViolationException.class)
 	public ResponseEntity<ApiErrorResponse> handleConstraintViolation(
 			ConstraintViolationException ex, WebRequest request) {
-		log.warn("Constraint violation", ex);
-
 		String message = ex.getConstraintViolations().stream()
 				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
 				.collect(Collectors.joining("; "));
 		if (message.isBlank()) {
 			message = "Erro na validacao dos dados";
 		}
+		log.warn("Constraint violation: {}", message);
 
 		return buildResponse(HttpStatus.BAD_REQUEST, "Validation Error", message, request);
 	}
@@ -93,7 +117,8 @@ public class GlobalExceptionHandler {
 	@ExceptionHandler(HttpMessageNotReadableException.class)
 	public ResponseEntity<ApiErrorResponse> handleHttpMessageNotReadable(
 			HttpMessageNotReadableException ex, WebRequest request) {
-		log.warn("Invalid JSON payload", ex);
+		log.warn("Invalid JSON payload: {}", ex.getMostSpecificCause().getMessage());
+		log.debug("Invalid JSON payload", ex);
 		return buildResponse(HttpStatus.BAD_REQUEST, "Bad Request", "JSON invalido", request);
 	}
 
@@ -113,9 +138,29 @@ public class GlobalExceptionHandler {
 		return buildResponse(HttpStatus.NOT_FOUND, "Not Found", "Endpoint nao encontrado", request);
 	}
 
+	@ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+	public ResponseEntity<ApiErrorResponse> handleMediaTypeNotAcceptable(
+			HttpMediaTypeNotAcceptableException ex, WebRequest request) {
+		log.warn("Media type not acceptable: {}", request.getHeader(HttpHeaders.ACCEPT));
+		return buildResponse(HttpStatus.NOT_ACCEPTABLE, "Not Acceptable",
+				"Formatos suportados: " + ex.getSupportedMediaTypes(), request);
+	}
+
+	/**
+	 * Sem conexão livre no pool dentro do {@code connection-timeout} do Hikari, a
+	 * requisição recebe 503 em vez de 500. A falha chega embrulhada de formas
+	 * diferentes conforme o ponto em que a conexão foi pedida (abertura da
+	 * transação, consulta fora de transação), por isso a causa é procurada na cadeia.
+	 */
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ApiErrorResponse> handleGlobalException(
 			Exception ex, WebRequest request) {
+		if (isConnectionPoolTimeout(ex)) {
+			log.warn("Pool de conexões esgotado: {}", extractPath(request));
+			return handleServiceUnavailable(
+					new ServiceUnavailableException("Servidor sobrecarregado, tente novamente em instantes."),
+					request);
+		}
 		log.error("Erro inesperado", ex);
 
 		return buildResponse(
@@ -132,7 +177,7 @@ public class GlobalExceptionHandler {
 		return buildResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
 	}
 
-	private ResponseEntity<ApiErrorResponse> buildResponse(
+	ResponseEntity<ApiErrorResponse> buildResponse(
 			HttpStatus status,
 			String error,
 			String message,
@@ -145,7 +190,10 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, status);
 	}
 
-	private String extractPath(WebRequest request) {
+	String extractPath(WebRequest request) {
+		if (request instanceof ServletWebRequest servletWebRequest) {
+			return servletWebRequest.getRequest().getRequestURI();
+		}
 		return request.getDescription(false).replace("uri=", "");
 	}
 
@@ -173,6 +221,15 @@ public class GlobalExceptionHandler {
 		return null;
 	}
 
+	private boolean isConnectionPoolTimeout(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLTransientConnectionException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean isUniqueConstraint(String constraintName) {
 		String normalized = constraintName.toLowerCase(Locale.ROOT);
 		return normalized.contains("unique") || normalized.contains("uk_") || normalized.contains("uniq");
@@ -0,0 +1,27 @@
+package com.sgerest.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Métricas próprias da aplicação expostas em {@code /actuator/prometheus}, além
+ * das registradas automaticamente (requisições HTTP, Hikari, Hibernate, JVM).
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder accessLogMetrics(AccessLogWriter writer) {
+        return registry -> {
+            FunctionCounter.builder("sge.access.log.written", writer, AccessLogWriter::getRegistrados)
+                    .description("Linhas de log de acesso escritas")
+                    .register(registry);
+            FunctionCounter.builder("sge.access.log.skipped", writer, AccessLogWriter::getDescartados)
+                    .description("Respostas não registradas pela amostragem ou por buffer cheio")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.sgerest.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Com {@code -Dspring.aot.enabled=true} a condição de {@link ReplicaDataSourceConfig}
+ * já foi avaliada no build, com o perfil {@code aot.profiles} do pom. Réplicas
+ * configuradas só na execução seriam ignoradas em silêncio, com todas as leituras
+ * no primário; nesse caso a aplicação não sobe, antes de abrir qualquer conexão.
+ */
+@Component
+public class ReplicaAotCheck implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        verificar(AotDetector.useGeneratedArtifacts(), ReplicaDataSourceConfig.replicasConfiguradas(environment),
+                beanFactory.getBeanNamesForType(ReplicaRoutingDataSource.class, false, false).length > 0);
+    }
+
+    static void verificar(boolean aot, boolean replicasConfiguradas, boolean roteamentoAtivo) {
+        if (aot && replicasConfiguradas && !roteamentoAtivo) {
+            throw new IllegalStateException("sge.datasource.replicas está configurado, mas o jar foi processado "
+                    + "pelo Spring AOT sem réplicas e não roteia leituras. Gere o jar com -Daot.profiles "
+                    + "incluindo um perfil com réplicas ou rode sem -Dspring.aot.enabled=true.");
+        }
+    }
+}
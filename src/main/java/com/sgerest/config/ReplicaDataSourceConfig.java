@@ -0,0 +1,103 @@
+package com.sgerest.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * Com {@code sge.datasource.replicas} configurado, substitui o DataSource do Boot
+ * por um proxy que só obtém a conexão física no primeiro comando. Até lá o
+ * {@code @Transactional(readOnly = true)} já marcou a conexão como somente leitura,
+ * e o proxy a pede a {@link ReplicaRoutingDataSource}; as demais vão ao primário.
+ */
+@Configuration(proxyBeanMethods = false)
+@Conditional(ReplicaDataSourceConfig.ReplicasConfiguradas.class)
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties, ReplicaProperties properties) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReplicaProperties.Replica replica = properties.replicas().get(i);
+            String nome = "replica-" + (i + 1);
+            replicas.add(new ReplicaRoutingDataSource.Replica(nome,
+                    poolDaReplica(nome, replica, primaryDataSource, dataSourceProperties, properties)));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.readYourWritesWindow(),
+                properties.healthCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(
+                replicaDataSource.primarioRegistrandoEscritas());
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+
+    /**
+     * Mesmo pool do primário (tamanho, propriedades do driver), com as credenciais
+     * da réplica. A aplicação sobe mesmo com a réplica fora, e uma réplica que não
+     * entrega conexão em {@code connectionTimeout} é pulada.
+     */
+    private static HikariDataSource poolDaReplica(String nome, ReplicaProperties.Replica replica,
+            HikariDataSource primario, DataSourceProperties dataSourceProperties, ReplicaProperties properties) {
+        HikariConfig config = new HikariConfig();
+        primario.copyStateTo(config);
+        config.setPoolName(nome);
+        config.setJdbcUrl(replica.url());
+        config.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+        config.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+        config.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    static boolean replicasConfiguradas(Environment environment) {
+        return Binder.get(environment)
+                .bind("sge.datasource.replicas", Bindable.listOf(ReplicaProperties.Replica.class))
+                .map(replicas -> !replicas.isEmpty())
+                .orElse(false);
+    }
+
+    static class ReplicasConfiguradas extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return replicasConfiguradas(context.getEnvironment())
+                    ? ConditionOutcome.match("sge.datasource.replicas configurado")
+                    : ConditionOutcome.noMatch("sem sge.datasource.replicas");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sgerest.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de leitura ({@code sge.datasource.*}). Sem réplicas configuradas, todas
+ * as conexões vêm do {@code spring.datasource} primário, como antes.
+ *
+ * @param replicas              réplicas que recebem as transações somente leitura
+ * @param healthCheckInterval   intervalo da verificação que retira e devolve réplicas
+ * @param connectionTimeout     espera máxima por conexão de uma réplica antes de
+ *                              tentar a próxima
+ * @param readYourWritesWindow  depois de um commit com escrita, por quanto tempo as
+ *                              leituras continuam no primário (0 desliga)
+ */
+@ConfigurationProperties("sge.datasource")
+public record ReplicaProperties(
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("2s") Duration connectionTimeout,
+        @DefaultValue("0s") Duration readYourWritesWindow) {
+
+    /**
+     * Usuário e senha, quando omitidos, são os do primário.
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
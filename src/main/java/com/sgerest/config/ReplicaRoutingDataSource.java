@@ -0,0 +1,303 @@
+package com.sgerest.config;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+/**
+ * Origem das conexões das transações somente leitura.
+ *
+ * <p>
+ * Distribui as conexões entre as réplicas em round-robin, pulando as que estão
+ * fora. Uma réplica sai da rotação quando não entrega conexão e volta quando a
+ * verificação periódica consegue validar uma conexão nela. Sem nenhuma réplica
+ * disponível, a leitura vai para o primário.
+ *
+ * <p>
+ * Com {@code readYourWritesWindow}, as leituras ficam no primário por esse tempo
+ * depois de qualquer commit com escrita nesta instância, para que o cliente que
+ * acabou de escrever não leia uma réplica atrasada. A janela é da instância, não
+ * do cliente: sob escrita contínua as leituras não saem do primário.
+ *
+ * <p>
+ * Um valor lido de uma réplica atrasada continuaria sendo servido de um cache
+ * depois que a réplica alcançasse o primário. Por isso leituras que podem
+ * alimentar caches usam {@link #lerComDestinoFixado}, que escolhe a réplica antes
+ * da consulta e avisa o chamador para não guardar o resultado; as que reconstroem
+ * índices inteiros em memória rodam em {@link #noPrimario}.
+ */
+@Log4j2
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    private static final int TIMEOUT_VALIDACAO_SEGUNDOS = 2;
+
+    private static final ThreadLocal<Boolean> LEITURA_NO_PRIMARIO = new ThreadLocal<>();
+
+    private static final ThreadLocal<Replica> REPLICA_FIXADA = new ThreadLocal<>();
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final long janelaNanos;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final LongAdder leiturasNoPrimario = new LongAdder();
+    private final ScheduledExecutorService verificador;
+    private volatile long ultimaEscritaNanos;
+    private volatile boolean houveEscrita;
+
+    public ReplicaRoutingDataSource(DataSource primario, List<Replica> replicas, Duration readYourWritesWindow,
+            Duration healthCheckInterval) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma réplica.");
+        }
+        this.primario = primario;
+        this.replicas = List.copyOf(replicas);
+        this.janelaNanos = readYourWritesWindow.toNanos();
+        this.verificador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health-check").daemon().factory());
+        long intervalo = healthCheckInterval.toMillis();
+        verificador.scheduleWithFixedDelay(this::verificarReplicas, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        log.info("Roteamento de leitura configurado. Réplicas: {}, janela de leitura após escrita: {}",
+                this.replicas.stream().map(Replica::nome).toList(), readYourWritesWindow);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (LEITURA_NO_PRIMARIO.get() != null || dentroDaJanelaDeEscrita()) {
+            leiturasNoPrimario.increment();
+            return primario.getConnection();
+        }
+        Replica fixada = REPLICA_FIXADA.get();
+        if (fixada != null) {
+            try {
+                Connection connection = fixada.dataSource.getConnection();
+                fixada.leituras.increment();
+                return connection;
+            } catch (SQLException e) {
+                retirar(fixada, e);
+                leiturasNoPrimario.increment();
+                return primario.getConnection();
+            }
+        }
+        int inicio = Math.floorMod(proxima.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((inicio + i) % replicas.size());
+            if (!replica.disponivel) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.leituras.increment();
+                return connection;
+            } catch (SQLException e) {
+                retirar(replica, e);
+            }
+        }
+        leiturasNoPrimario.increment();
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Use getConnection() sem credenciais.");
+    }
+
+    /**
+     * Executa {@code leitura} obtendo do primário as conexões somente leitura pedidas
+     * nesta thread. A transação continua somente leitura e não abre a janela de
+     * leitura após escrita. A conexão é obtida no primeiro comando, então a
+     * transação pode ter começado antes, desde que nada tenha sido executado nela.
+     * Sem réplicas configuradas, apenas executa a leitura.
+     */
+    public static <T> T noPrimario(Supplier<T> leitura) {
+        if (LEITURA_NO_PRIMARIO.get() != null) {
+            return leitura.get();
+        }
+        LEITURA_NO_PRIMARIO.set(Boolean.TRUE);
+        try {
+            return leitura.get();
+        } finally {
+            LEITURA_NO_PRIMARIO.remove();
+        }
+    }
+
+    public static void noPrimario(Runnable leitura) {
+        noPrimario(() -> {
+            leitura.run();
+            return null;
+        });
+    }
+
+    /**
+     * Escolhe agora a réplica que atende as conexões somente leitura pedidas nesta
+     * thread durante {@code leitura} e informa a ela se há uma ({@code true}): o
+     * resultado pode estar atrasado e não deve ir para caches. Recebe {@code false}
+     * quando a leitura fica no primário ({@link #noPrimario}, janela de leitura
+     * após escrita ou nenhuma réplica disponível). Se a réplica escolhida falhar ao
+     * entregar a conexão, a leitura vai ao primário e o aviso continua {@code true}.
+     */
+    public <T> T lerComDestinoFixado(Function<Boolean, T> leitura) {
+        if (REPLICA_FIXADA.get() != null) {
+            return leitura.apply(true);
+        }
+        Replica replica = escolherReplica();
+        if (replica == null) {
+            return leitura.apply(false);
+        }
+        REPLICA_FIXADA.set(replica);
+        try {
+            return leitura.apply(true);
+        } finally {
+            REPLICA_FIXADA.remove();
+        }
+    }
+
+    /**
+     * Marca uma escrita confirmada agora, abrindo a janela de leitura no primário.
+     */
+    public void registrarEscrita() {
+        ultimaEscritaNanos = System.nanoTime();
+        houveEscrita = true;
+    }
+
+    /**
+     * Devolve à rotação as réplicas que voltaram a responder e retira as que
+     * deixaram de responder.
+     */
+    void verificarReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(TIMEOUT_VALIDACAO_SEGUNDOS)) {
+                    throw new SQLException("Conexão inválida");
+                }
+                if (!replica.disponivel) {
+                    replica.disponivel = true;
+                    log.warn("Réplica {} voltou para a rotação de leitura", replica.nome);
+                }
+            } catch (SQLException | RuntimeException e) {
+                retirar(replica, e);
+            }
+        }
+    }
+
+    /**
+     * Primário que registra, no commit, as transações de escrita que usaram
+     * conexão. Só é necessário quando há janela de leitura após escrita.
+     */
+    public DataSource primarioRegistrandoEscritas() {
+        if (janelaNanos <= 0) {
+            return primario;
+        }
+        return new DelegatingDataSource(primario) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (TransactionSynchronizationManager.isSynchronizationActive()
+                        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            registrarEscrita();
+                        }
+                    });
+                }
+                return super.getConnection();
+            }
+        };
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("sge.datasource.reads", leiturasNoPrimario, LongAdder::sum)
+                .description("Transações somente leitura por destino")
+                .tag("destino", "primario")
+                .register(registry);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("sge.datasource.reads", replica.leituras, LongAdder::sum)
+                    .description("Transações somente leitura por destino")
+                    .tag("destino", replica.nome)
+                    .register(registry);
+            Gauge.builder("sge.datasource.replica.available", replica, r -> r.disponivel ? 1 : 0)
+                    .description("1 se a réplica está na rotação de leitura")
+                    .tag("replica", replica.nome)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        verificador.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica escolherReplica() {
+        if (LEITURA_NO_PRIMARIO.get() != null || dentroDaJanelaDeEscrita()) {
+            return null;
+        }
+        int inicio = Math.floorMod(proxima.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((inicio + i) % replicas.size());
+            if (replica.disponivel) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean dentroDaJanelaDeEscrita() {
+        return janelaNanos > 0 && houveEscrita && System.nanoTime() - ultimaEscritaNanos < janelaNanos;
+    }
+
+    private static void retirar(Replica replica, Exception e) {
+        if (replica.disponivel) {
+            replica.disponivel = false;
+            log.error("Réplica {} retirada da rotação de leitura: {}", replica.nome, e.getMessage());
+        }
+    }
+
+    public static final class Replica {
+
+        private final String nome;
+        private final DataSource dataSource;
+        private final LongAdder leituras = new LongAdder();
+        private volatile boolean disponivel = true;
+
+        public Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+
+        public String nome() {
+            return nome;
+        }
+
+        public boolean disponivel() {
+            return disponivel;
+        }
+    }
+}
@@ -2,18 +2,25 @@ package com.sgerest.config;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
+/**
+ * Mede a latência de cada requisição e entrega uma linha ao
+ * {@link AccessLogWriter}. Na thread da requisição só são feitos o registro do
+ * instante inicial, a decisão de amostragem e a extração do IP das requisições
+ * amostradas; data e mensagem são formatadas pelo writer.
+ */
 @Component
-@Log4j2
 public class RequestLoggingInterceptor implements HandlerInterceptor {
 
-    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final String ATRIBUTO_INICIO = RequestLoggingInterceptor.class.getName() + ".inicio";
+
+    private final AccessLogWriter accessLogWriter;
+
+    public RequestLoggingInterceptor(AccessLogWriter accessLogWriter) {
+        this.accessLogWriter = accessLogWriter;
+    }
 
     private boolean isSensitivePath(String uri) {
         return uri.contains("/login") ||
@@ -25,37 +32,24 @@ public class RequestLoggingInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String uri = request.getRequestURI();
-
-        if (!isSensitivePath(uri)) {
-            String clientIp = getClientIp(request);
-            String method = request.getMethod();
-            String timestamp = LocalDateTime.now().format(formatter);
-
-            log.info("REQUEST | IP: {} | Método: {} | Rota: {} | Horário: {}", clientIp, method, uri, timestamp);
+        // no despacho assíncrono de uma resposta em streaming o início já foi registrado
+        if (request.getAttribute(ATRIBUTO_INICIO) == null && !isSensitivePath(request.getRequestURI())) {
+            request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
         }
-
         return true;
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
             Exception ex) {
-        String uri = request.getRequestURI();
-
-        if (!isSensitivePath(uri)) {
-            String clientIp = getClientIp(request);
-            String method = request.getMethod();
-            int statusCode = response.getStatus();
-            String timestamp = LocalDateTime.now().format(formatter);
-
-            if (ex != null) {
-                log.error("RESPONSE | IP: {} | Método: {} | Rota: {} | Status: {} | Horário: {} | Erro: {}",
-                        clientIp, method, uri, statusCode, timestamp, ex.getMessage());
-            } else {
-                log.info("RESPONSE | IP: {} | Método: {} | Rota: {} | Status: {} | Horário: {}",
-                        clientIp, method, uri, statusCode, timestamp);
-            }
+        if (!(request.getAttribute(ATRIBUTO_INICIO) instanceof Long inicio)) {
+            return;
+        }
+        long latencia = System.nanoTime() - inicio;
+        int statusCode = response.getStatus();
+        if (accessLogWriter.amostrar(statusCode, ex != null)) {
+            accessLogWriter.registrar(getClientIp(request), request.getMethod(), request.getRequestURI(),
+                    statusCode, latencia, ex != null ? ex.getMessage() : null);
         }
     }
 
@@ -63,10 +57,11 @@ public class RequestLoggingInterceptor implements HandlerInterceptor {
      * Extrai o IP do cliente da requisição
      * Considera proxy headers (X-Forwarded-For) e headers personalizados
      */
-    private String getClientIp(HttpServletRequest request) {
+    String getClientIp(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+            int virgula = xForwardedFor.indexOf(',');
+            return (virgula < 0 ? xForwardedFor : xForwardedFor.substring(0, virgula)).trim();
         }
 
         String xRealIp = request.getHeader("X-Real-IP");
@@ -0,0 +1,22 @@
+package com.sgerest.controller.DTO;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int pageSize,
+        boolean hasNext,
+        String nextCursor) {
+
+    /**
+     * Monta a resposta a partir de uma consulta que buscou {@code pageSize + 1} linhas:
+     * a linha excedente apenas indica que existe uma próxima página.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int pageSize, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponse<>(content, pageSize, hasNext, nextCursor);
+    }
+}
@@ -1,17 +1,40 @@
 package com.sgerest.controller.DTO;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
+/**
+ * Página de resultados. {@code totalType} indica a natureza do total informado:
+ * EXACT (COUNT(*) exato), ESTIMATED (estatística do banco ou contagem em cache)
+ * ou NONE (sem contagem; {@code totalElements} e {@code totalPages} ficam nulos).
+ */
 public record PageResponse<T>(
         List<T> content,
         int pageNumber,
         int pageSize,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean hasNext,
-        boolean hasPrevious) {
+        boolean hasPrevious,
+        TotalType totalType) {
+
+    public enum TotalType {
+        EXACT,
+        ESTIMATED,
+        NONE;
+
+        public static TotalType from(String value) {
+            for (TotalType type : values()) {
+                if (type.name().equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Tipo de total inválido: " + value);
+        }
+    }
+
     public static <T> PageResponse<T> of(Page<T> page) {
         return new PageResponse<>(
                 page.getContent(),
@@ -20,6 +43,40 @@ public record PageResponse<T>(
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.hasNext(),
-                page.hasPrevious());
+                page.hasPrevious(),
+                TotalType.EXACT);
+    }
+
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.hasNext(),
+                slice.hasPrevious(),
+                TotalType.NONE);
+    }
+
+    /**
+     * Combina a fatia com um total estimado. O total nunca é menor do que o que a
+     * própria fatia comprova existir.
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice, long estimatedTotal) {
+        long minimo = (long) slice.getNumber() * slice.getSize()
+                + slice.getNumberOfElements()
+                + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(estimatedTotal, minimo);
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                totalPages,
+                slice.hasNext(),
+                slice.hasPrevious(),
+                TotalType.ESTIMATED);
     }
 }
@@ -0,0 +1,9 @@
+package com.sgerest.controller.DTO.maintenance;
+
+public record CacheStatsResponse(
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount) {
+}
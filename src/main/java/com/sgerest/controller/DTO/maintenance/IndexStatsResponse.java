@@ -0,0 +1,9 @@
+package com.sgerest.controller.DTO.maintenance;
+
+public record IndexStatsResponse(
+        boolean ready,
+        long entries,
+        long buildMillis,
+        long estimatedBytes,
+        long queriesAvoided) {
+}
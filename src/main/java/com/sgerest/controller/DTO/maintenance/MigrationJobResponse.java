@@ -0,0 +1,20 @@
+package com.sgerest.controller.DTO.maintenance;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record MigrationJobResponse(
+        UUID id,
+        String instanceId,
+        String status,
+        String message,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        long lockWaitMillis,
+        Long durationMillis,
+        int migrationsExecuted,
+        int migrationsTotal,
+        List<MigrationProgressResponse> migrations) {
+}
@@ -0,0 +1,11 @@
+package com.sgerest.controller.DTO.maintenance;
+
+import java.time.Instant;
+
+public record MigrationProgressResponse(
+        String version,
+        String description,
+        String status,
+        Instant startedAt,
+        Long durationMillis) {
+}
@@ -1,6 +0,0 @@
-package com.sgerest.controller.DTO.maintenance;
-
-public record MigrationResponse(
-        String message,
-        int migrationsExecuted) {
-}
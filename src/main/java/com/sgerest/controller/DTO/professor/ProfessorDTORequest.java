@@ -0,0 +1,21 @@
+package com.sgerest.controller.DTO.professor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+public record ProfessorDTORequest(
+        @NotNull Long tituloId,
+        @NotBlank @Size(min = 1, max = 100) String nome,
+        @NotNull @Pattern(regexp = "[MF]", message = "deve ser M ou F") String sexo,
+        @NotNull @Pattern(regexp = "[SCD]", message = "deve ser S, C ou D") String estadoCivil,
+        @NotNull @Past LocalDate dataNascimento,
+        @NotBlank @Size(min = 1, max = 13) String telefone,
+        LocalDate dataContratacao,
+        Boolean ativo) {
+
+}
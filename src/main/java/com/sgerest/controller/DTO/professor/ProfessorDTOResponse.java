@@ -0,0 +1,22 @@
+package com.sgerest.controller.DTO.professor;
+
+import java.time.LocalDate;
+
+/**
+ * Professor com o título já resolvido. É construído direto pelas consultas do
+ * {@code ProfessorRepository} (expressão {@code select new}), com o título vindo
+ * do mesmo JOIN.
+ */
+public record ProfessorDTOResponse(
+        Long id,
+        String nome,
+        String sexo,
+        String estadoCivil,
+        LocalDate dataNascimento,
+        String telefone,
+        LocalDate dataContratacao,
+        boolean ativo,
+        Long tituloId,
+        String tituloDescricao) {
+
+}
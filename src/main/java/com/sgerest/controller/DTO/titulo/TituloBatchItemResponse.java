@@ -0,0 +1,23 @@
+package com.sgerest.controller.DTO.titulo;
+
+public record TituloBatchItemResponse(
+        int indice,
+        String descricao,
+        Status status,
+        Long id,
+        String mensagem) {
+
+    public enum Status {
+        CRIADO,
+        DUPLICADO,
+        INVALIDO
+    }
+
+    public static TituloBatchItemResponse criado(int indice, String descricao, Long id) {
+        return new TituloBatchItemResponse(indice, descricao, Status.CRIADO, id, null);
+    }
+
+    public static TituloBatchItemResponse rejeitado(int indice, String descricao, Status status, String mensagem) {
+        return new TituloBatchItemResponse(indice, descricao, status, null, mensagem);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sgerest.controller.DTO.titulo;
+
+import java.util.List;
+
+public record TituloBatchResponse(
+        int total,
+        int criados,
+        int rejeitados,
+        List<TituloBatchItemResponse> itens) {
+
+    public static TituloBatchResponse of(List<TituloBatchItemResponse> itens) {
+        int criados = (int) itens.stream()
+                .filter(item -> item.status() == TituloBatchItemResponse.Status.CRIADO)
+                .count();
+        return new TituloBatchResponse(itens.size(), criados, itens.size() - criados, itens);
+    }
+}
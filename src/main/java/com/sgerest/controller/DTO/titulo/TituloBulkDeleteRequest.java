@@ -0,0 +1,10 @@
+package com.sgerest.controller.DTO.titulo;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record TituloBulkDeleteRequest(
+        @NotEmpty List<Long> ids) {
+
+}
@@ -0,0 +1,11 @@
+package com.sgerest.controller.DTO.titulo;
+
+import java.util.List;
+
+public record TituloBulkDeleteResponse(
+        int solicitados,
+        List<Long> removidos,
+        List<Long> naoEncontrados,
+        long professoresRemovidosEmCascata) {
+
+}
@@ -0,0 +1,74 @@
+package com.sgerest.controller.DTO.titulo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição opaca da paginação por cursor (keyset) de títulos.
+ * Guarda a chave de ordenação da última linha entregue: o ID, e também a descrição
+ * quando a listagem é ordenada por descrição.
+ */
+public record TituloCursor(
+        Ordenacao ordenacao,
+        Long id,
+        String descricao) {
+
+    public enum Ordenacao {
+        ID,
+        DESCRICAO;
+
+        /**
+         * Lê {@code campo[,asc]}. O keyset só percorre em ordem crescente, então
+         * qualquer outra direção é rejeitada em vez de ignorada.
+         */
+        public static Ordenacao from(String sort) {
+            String[] partes = sort.split(",");
+            if (partes.length > 2 || (partes.length == 2 && !partes[1].trim().equalsIgnoreCase("asc"))) {
+                throw new IllegalArgumentException(
+                        "A paginação por cursor só suporta ordem crescente: " + sort);
+            }
+            String campo = partes[0].trim();
+            if (campo.equalsIgnoreCase("id")) {
+                return ID;
+            }
+            if (campo.equalsIgnoreCase("descricao")) {
+                return DESCRICAO;
+            }
+            throw new IllegalArgumentException("Ordenação por cursor não suportada: " + sort);
+        }
+    }
+
+    private static final char SEPARADOR = ':';
+
+    public static TituloCursor after(Ordenacao ordenacao, TituloDTOResponse ultimo) {
+        return new TituloCursor(ordenacao, ultimo.id(),
+                ordenacao == Ordenacao.DESCRICAO ? ultimo.descricao() : null);
+    }
+
+    public String encode() {
+        String raw = ordenacao == Ordenacao.ID
+                ? "i" + SEPARADOR + id
+                : "d" + SEPARADOR + id + SEPARADOR + descricao;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TituloCursor decode(String cursor, Ordenacao esperada) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int primeiro = raw.indexOf(SEPARADOR);
+            String tipo = raw.substring(0, primeiro);
+            if (tipo.equals("i") && esperada == Ordenacao.ID) {
+                return new TituloCursor(Ordenacao.ID, Long.parseLong(raw.substring(primeiro + 1)), null);
+            }
+            if (tipo.equals("d") && esperada == Ordenacao.DESCRICAO) {
+                int segundo = raw.indexOf(SEPARADOR, primeiro + 1);
+                return new TituloCursor(Ordenacao.DESCRICAO,
+                        Long.parseLong(raw.substring(primeiro + 1, segundo)),
+                        raw.substring(segundo + 1));
+            }
+        } catch (RuntimeException e) {
+            // tratado abaixo como cursor inválido
+        }
+        throw new IllegalArgumentException("Cursor inválido para a ordenação informada.");
+    }
+}
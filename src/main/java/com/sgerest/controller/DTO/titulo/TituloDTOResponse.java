@@ -1,7 +1,10 @@
 package com.sgerest.controller.DTO.titulo;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public record TituloDTOResponse(
         Long id,
-        String descricao) {
+        String descricao,
+        @JsonIgnore Long versao) {
 
 }
@@ -0,0 +1,6 @@
+package com.sgerest.controller.DTO.titulo;
+
+public record TituloSugestaoResponse(
+        Long id,
+        String descricao) {
+}
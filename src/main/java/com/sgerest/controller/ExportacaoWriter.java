@@ -0,0 +1,123 @@
+package com.sgerest.controller;
+
+import org.springframework.util.StreamUtils;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Escreve as linhas de uma exportação direto no corpo da resposta, à medida que
+ * chegam do cursor do banco. Só o buffer do gerador fica em memória; nada é
+ * acumulado entre as linhas. O stream da resposta não é fechado aqui.
+ */
+abstract class ExportacaoWriter<T> implements Consumer<T>, Closeable {
+
+    static <T> ExportacaoWriter<T> abrir(FormatoExportacao formato, OutputStream out, JsonMapper jsonMapper,
+            Class<T> tipo, String[] cabecalhoCsv, Function<T, Object[]> colunasCsv) throws IOException {
+        OutputStream destino = StreamUtils.nonClosing(out);
+        return formato == FormatoExportacao.NDJSON
+                ? new Ndjson<>(destino, jsonMapper, tipo)
+                : new Csv<>(destino, cabecalhoCsv, colunasCsv);
+    }
+
+    @Override
+    public final void accept(T linha) {
+        try {
+            escrever(linha);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    abstract void escrever(T linha) throws IOException;
+
+    private static final class Ndjson<T> extends ExportacaoWriter<T> {
+
+        private final ObjectWriter writer;
+        private final JsonGenerator gerador;
+
+        Ndjson(OutputStream out, JsonMapper jsonMapper, Class<T> tipo) {
+            this.writer = jsonMapper.writerFor(tipo)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator((String) null);
+            this.gerador = writer.createGenerator(out);
+        }
+
+        @Override
+        void escrever(T linha) {
+            writer.writeValue(gerador, linha);
+            gerador.writeRaw('\n');
+        }
+
+        @Override
+        public void close() {
+            gerador.close();
+        }
+    }
+
+    private static final class Csv<T> extends ExportacaoWriter<T> {
+
+        private final Writer writer;
+        private final Function<T, Object[]> colunas;
+
+        Csv(OutputStream out, String[] cabecalho, Function<T, Object[]> colunas) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            this.colunas = colunas;
+            escreverLinha(cabecalho);
+        }
+
+        @Override
+        void escrever(T linha) throws IOException {
+            escreverLinha(colunas.apply(linha));
+        }
+
+        private void escreverLinha(Object[] valores) throws IOException {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (valores[i] != null) {
+                    escreverCampo(valores[i].toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        /**
+         * Campos com vírgula, aspas ou quebra de linha vão entre aspas, com aspas
+         * internas duplicadas (RFC 4180).
+         */
+        private void escreverCampo(String valor) throws IOException {
+            boolean citar = false;
+            for (int i = 0; i < valor.length() && !citar; i++) {
+                char c = valor.charAt(i);
+                citar = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!citar) {
+                writer.write(valor);
+                return;
+            }
+            writer.write('"');
+            writer.write(valor.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
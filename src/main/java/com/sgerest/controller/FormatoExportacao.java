@@ -0,0 +1,43 @@
+package com.sgerest.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Formatos aceitos pelos endpoints de exportação ({@code ?format=ndjson|csv}).
+ */
+enum FormatoExportacao {
+
+    NDJSON(MediaType.parseMediaType(TituloController.APPLICATION_NDJSON_VALUE)),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final MediaType mediaType;
+
+    FormatoExportacao(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    static FormatoExportacao from(String valor) {
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de exportação inválido: " + valor + ". Use ndjson ou csv.");
+        }
+    }
+
+    ResponseEntity<StreamingResponseBody> responder(String nomeArquivo, StreamingResponseBody corpo) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(nomeArquivo + "." + name().toLowerCase(Locale.ROOT))
+                .build();
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(corpo);
+    }
+}
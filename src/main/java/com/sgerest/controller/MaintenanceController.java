@@ -3,14 +3,28 @@ package com.sgerest.controller;
 import lombok.extern.log4j.Log4j2;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import com.sgerest.controller.DTO.maintenance.MigrationResponse;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.sgerest.controller.DTO.maintenance.CacheStatsResponse;
+import com.sgerest.controller.DTO.maintenance.IndexStatsResponse;
+import com.sgerest.controller.DTO.maintenance.MigrationJobResponse;
+import com.sgerest.domain.cache.HibernateCacheStats;
+import com.sgerest.domain.cache.TituloCache;
+import com.sgerest.domain.cache.TituloDescricaoIndex;
+import com.sgerest.domain.cache.TituloSugestaoIndex;
+import com.sgerest.domain.entities.TituloEntity;
+import com.sgerest.domain.repository.TituloRepository;
 import com.sgerest.domain.services.DatabaseMigrationService;
-import com.sgerest.exception.ApiErrorResponse;
 
 @RestController
 @RequestMapping("v1/maintenance")
@@ -19,28 +33,62 @@ public class MaintenanceController {
 
     private final DatabaseMigrationService databaseMigrationService;
 
-    public MaintenanceController(DatabaseMigrationService databaseMigrationService) {
+    private final TituloCache tituloCache;
+
+    private final TituloDescricaoIndex tituloDescricaoIndex;
+
+    private final TituloSugestaoIndex tituloSugestaoIndex;
+
+    private final HibernateCacheStats hibernateCacheStats;
+
+    public MaintenanceController(DatabaseMigrationService databaseMigrationService, TituloCache tituloCache,
+            TituloDescricaoIndex tituloDescricaoIndex, TituloSugestaoIndex tituloSugestaoIndex,
+            HibernateCacheStats hibernateCacheStats) {
         this.databaseMigrationService = databaseMigrationService;
+        this.tituloCache = tituloCache;
+        this.tituloDescricaoIndex = tituloDescricaoIndex;
+        this.tituloSugestaoIndex = tituloSugestaoIndex;
+        this.hibernateCacheStats = hibernateCacheStats;
     }
 
+    /**
+     * Agenda as migrações e responde 202 com o job; o andamento fica em
+     * {@code Location}.
+     */
     @PostMapping("/run-migrations")
-    public ResponseEntity<Object> runMigrations() {
-        try {
-            log.warn("Requisição de execução de migrações recebida");
-            int count = databaseMigrationService.executeMigrations();
-            MigrationResponse response = new MigrationResponse(
-                    "Migrações executadas com sucesso",
-                    count);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Erro ao executar migrações: {}", e.getMessage());
-            String path = ServletUriComponentsBuilder.fromCurrentRequest()
-                    .build()
-                    .getPath();
-            return ResponseEntity.status(500)
-                    .body(new ApiErrorResponse(500, "Migration Error", e.getMessage(), path));
-        }
+    public ResponseEntity<MigrationJobResponse> runMigrations() {
+        log.warn("Requisição de execução de migrações recebida");
+        MigrationJobResponse job = databaseMigrationService.iniciarMigracao();
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/v1/maintenance/migration-jobs/{id}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/migration-jobs")
+    public ResponseEntity<List<MigrationJobResponse>> listMigrationJobs() {
+        return ResponseEntity.ok(databaseMigrationService.listarJobs());
+    }
+
+    @GetMapping("/migration-jobs/{id}")
+    public ResponseEntity<MigrationJobResponse> getMigrationJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(databaseMigrationService.buscarJob(id));
+    }
+
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, CacheStatsResponse>> cacheStats() {
+        return ResponseEntity.ok(Map.of(
+                "titulos", tituloCache.stats(),
+                "l2Titulo", hibernateCacheStats.stats(TituloEntity.REGIAO_CACHE),
+                "l2TituloConsultas", hibernateCacheStats.stats(TituloRepository.REGIAO_CACHE_CONSULTAS)));
+    }
 
+    @GetMapping("/indices")
+    public ResponseEntity<Map<String, IndexStatsResponse>> indexStats() {
+        return ResponseEntity.ok(Map.of(
+                "tituloDescricao", tituloDescricaoIndex.stats(),
+                "tituloSugestao", tituloSugestaoIndex.stats()));
     }
 
 }
\ No newline at end of file
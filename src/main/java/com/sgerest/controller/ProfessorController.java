@@ -0,0 +1,113 @@
+package com.sgerest.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
+
+import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.professor.ProfessorDTORequest;
+import com.sgerest.controller.DTO.professor.ProfessorDTOResponse;
+import com.sgerest.domain.services.ProfessorService;
+
+@RestController
+@RequestMapping("v1/professores")
+@Tag(name = "Professor", description = "Operações relacionadas a professores")
+public class ProfessorController {
+
+    private static final String[] CABECALHO_CSV = { "id", "nome", "sexo", "estadoCivil", "dataNascimento",
+            "telefone", "dataContratacao", "ativo", "tituloId", "tituloDescricao" };
+
+    private final ProfessorService professorService;
+
+    private final JsonMapper jsonMapper;
+
+    public ProfessorController(ProfessorService professorService, JsonMapper jsonMapper) {
+        this.professorService = professorService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Cadastrar um novo professor")
+    public ResponseEntity<ProfessorDTOResponse> save(@Valid @RequestBody ProfessorDTORequest request) {
+        ProfessorDTOResponse response = professorService.cadastrar(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(response.id())
+                .toUri();
+        return ResponseEntity.created(location).body(response);
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Obter professor por ID")
+    public ResponseEntity<ProfessorDTOResponse> getById(@PathVariable Long id) {
+        return ResponseEntity.ok(professorService.getById(id));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Listar professores com paginação, opcionalmente filtrando por título")
+    public ResponseEntity<PageResponse<ProfessorDTOResponse>> getAll(Pageable pageable,
+            @RequestParam(required = false) Long tituloId) {
+        return ResponseEntity.ok(professorService.listarTodos(pageable, tituloId));
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Buscar professores cujo nome contém o termo, ordenados por similaridade")
+    public ResponseEntity<List<ProfessorDTOResponse>> search(@RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(professorService.buscar(q, limit));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar todos os professores em streaming (format=ndjson ou csv)")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        FormatoExportacao formato = FormatoExportacao.from(format);
+        return formato.responder("professores", out -> {
+            try (var writer = ExportacaoWriter.abrir(formato, out, jsonMapper, ProfessorDTOResponse.class,
+                    CABECALHO_CSV, ProfessorController::colunasCsv)) {
+                professorService.exportar(writer);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Atualizar um professor existente")
+    public ResponseEntity<ProfessorDTOResponse> update(@PathVariable Long id,
+            @Valid @RequestBody ProfessorDTORequest request) {
+        return ResponseEntity.ok(professorService.atualizar(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Deletar um professor por ID")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        professorService.deletar(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static Object[] colunasCsv(ProfessorDTOResponse p) {
+        return new Object[] { p.id(), p.nome(), p.sexo(), p.estadoCivil(), p.dataNascimento(), p.telefone(),
+                p.dataContratacao(), p.ativo(), p.tituloId(), p.tituloDescricao() };
+    }
+}
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,15 +14,32 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
+import com.sgerest.controller.DTO.CursorPageResponse;
 import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.titulo.TituloBatchResponse;
+import com.sgerest.controller.DTO.titulo.TituloBulkDeleteRequest;
+import com.sgerest.controller.DTO.titulo.TituloBulkDeleteResponse;
 import com.sgerest.controller.DTO.titulo.TituloDTORequest;
 import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.controller.DTO.titulo.TituloSugestaoResponse;
 import com.sgerest.domain.services.TituloService;
 
 @RestController
@@ -29,10 +47,19 @@ import com.sgerest.domain.services.TituloService;
 @Tag(name = "Título", description = "Operações relacionadas a títulos")
 public class TituloController {
 
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final String[] CABECALHO_CSV = { "id", "descricao" };
+
     private final TituloService tituloService;
 
-    public TituloController(TituloService tituloService) {
+    private final JsonMapper jsonMapper;
+
+    public TituloController(TituloService tituloService, JsonMapper jsonMapper) {
         this.tituloService = tituloService;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -46,26 +73,121 @@ public class TituloController {
         return ResponseEntity.created(location).body(response);
     }
 
-    @GetMapping("/{id}")
-    @Operation(summary = "Obter título por ID")
-    public ResponseEntity<TituloDTOResponse> getById(@PathVariable Long id) {
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Cadastrar títulos em lote a partir de um array JSON")
+    public ResponseEntity<TituloBatchResponse> saveBatch(@RequestBody List<TituloDTORequest> requests) {
+        List<String> descricoes = new ArrayList<>(requests.size());
+        for (TituloDTORequest request : requests) {
+            descricoes.add(request == null ? null : request.descricao());
+        }
+        return ResponseEntity.ok(tituloService.cadastrarEmLote(descricoes));
+    }
+
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Cadastrar títulos em lote a partir de um stream NDJSON (um objeto por linha)")
+    public ResponseEntity<TituloBatchResponse> saveBatchNdjson(InputStream body) {
+        List<String> descricoes = new ArrayList<>();
+        try (MappingIterator<TituloDTORequest> linhas = jsonMapper.readerFor(TituloDTORequest.class)
+                .readValues(body)) {
+            while (linhas.hasNextValue()) {
+                if (descricoes.size() == TituloService.TAMANHO_MAXIMO_LOTE) {
+                    throw new IllegalArgumentException(
+                            "O lote deve conter no máximo " + TituloService.TAMANHO_MAXIMO_LOTE + " títulos.");
+                }
+                descricoes.add(linhas.nextValue().descricao());
+            }
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("NDJSON invalido na linha " + (descricoes.size() + 1));
+        }
+        return ResponseEntity.ok(tituloService.cadastrarEmLote(descricoes));
+    }
+
+    /**
+     * Responde com ETag forte. Com {@code If-None-Match}, a versão é verificada antes
+     * (cache ou consulta só da versão) e um 304 é devolvido sem carregar o título.
+     * Só JSON: a ETag vem da versão e não distingue representações.
+     */
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Obter título por ID (suporta If-None-Match)")
+    public ResponseEntity<TituloDTOResponse> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(TituloEtags.of(tituloService.getVersao(id)))) {
+            return null;
+        }
         var response = tituloService.getById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(TituloEtags.of(response.versao())).body(response);
+    }
+
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE })
+    @Operation(summary = "Listar todos os títulos com paginação (total: EXACT, ESTIMATED ou NONE)")
+    public ResponseEntity<PageResponse<TituloDTOResponse>> getAll(Pageable pageable,
+            @RequestParam(defaultValue = "exact") String total) {
+        var response = tituloService.listarTodos(pageable, PageResponse.TotalType.from(total));
+        return ResponseEntity.ok().eTag(TituloEtags.of(response)).varyBy(HttpHeaders.ACCEPT).body(response);
     }
 
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Listar todos os títulos com paginação")
-    public ResponseEntity<PageResponse<TituloDTOResponse>> getAll(Pageable pageable) {
-        var response = tituloService.listarTodos(pageable);
-        return ResponseEntity.ok(response);
+    @GetMapping(params = "after", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            APPLICATION_SMILE_VALUE })
+    @Operation(summary = "Listar títulos com paginação por cursor (envie after vazio para a primeira página)")
+    public ResponseEntity<CursorPageResponse<TituloDTOResponse>> getAllByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort) {
+        var response = tituloService.listarPorCursor(after, size, sort);
+        return ResponseEntity.ok().eTag(TituloEtags.of(response)).varyBy(HttpHeaders.ACCEPT).body(response);
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Buscar títulos cuja descrição contém o termo, ordenados por similaridade")
+    public ResponseEntity<List<TituloDTOResponse>> search(@RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(tituloService.buscar(q, limit));
+    }
+
+    @GetMapping(value = "/suggest", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Sugerir títulos pelo prefixo da descrição (autocompletar, sem acesso ao banco)")
+    public ResponseEntity<List<TituloSugestaoResponse>> suggest(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(tituloService.sugerir(prefix, limit));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar todos os títulos em streaming (format=ndjson ou csv)")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        FormatoExportacao formato = FormatoExportacao.from(format);
+        return formato.responder("titulos", out -> {
+            try (var writer = ExportacaoWriter.abrir(formato, out, jsonMapper, TituloDTOResponse.class,
+                    CABECALHO_CSV, t -> new Object[] { t.id(), t.descricao() })) {
+                tituloService.exportar(writer);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
     }
 
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Atualizar um título existente")
+    @Operation(summary = "Atualizar um título existente (suporta If-Match)")
     public ResponseEntity<TituloDTOResponse> update(@PathVariable Long id,
-            @Valid @RequestBody TituloDTORequest request) {
-        var response = tituloService.atualizar(id, request.descricao());
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody TituloDTORequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var response = ifMatch == null
+                ? tituloService.atualizar(id, request.descricao())
+                : tituloService.atualizarCondicional(id, request.descricao(), TituloEtags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(TituloEtags.of(response.versao())).body(response);
+    }
+
+    @DeleteMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Deletar vários títulos por ID (ids=1,2,3)")
+    public ResponseEntity<TituloBulkDeleteResponse> deleteBatch(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(tituloService.deletarEmLote(ids));
+    }
+
+    @PostMapping(value = "/batch-delete", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Deletar vários títulos por ID informados no corpo (para conjuntos grandes)")
+    public ResponseEntity<TituloBulkDeleteResponse> deleteBatchBody(
+            @Valid @RequestBody TituloBulkDeleteRequest request) {
+        return ResponseEntity.ok(tituloService.deletarEmLote(request.ids()));
     }
 
     @DeleteMapping("/{id}")
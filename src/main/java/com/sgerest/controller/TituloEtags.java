@@ -0,0 +1,84 @@
+package com.sgerest.controller;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.sgerest.controller.DTO.CursorPageResponse;
+import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+
+/**
+ * ETags dos recursos de título.
+ *
+ * <p>
+ * Um título tem ETag forte derivada da sua versão otimista. Páginas têm ETag fraca
+ * calculada sobre (id, versão) de cada item e os metadados da página. Assim a
+ * ETag muda sempre que o JSON mudaria, sem precisar serializá-lo.
+ */
+final class TituloEtags {
+
+    private TituloEtags() {
+    }
+
+    static String of(long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    /**
+     * Versões aceitas por um cabeçalho {@code If-Match}, que pode listar várias
+     * ETags. A comparação é forte (RFC 9110, seção 13.1.1): ETags fracas e entradas
+     * que não são ETags de título nunca correspondem e ficam de fora.
+     *
+     * @return as versões aceitas (vazio se nenhuma pode corresponder), ou
+     *         {@code null} para {@code *}
+     */
+    static Set<Long> parseIfMatch(String ifMatch) {
+        Set<Long> versoes = new LinkedHashSet<>();
+        for (String entrada : ifMatch.split(",")) {
+            String valor = entrada.trim();
+            if (valor.equals("*")) {
+                return null;
+            }
+            if (valor.length() < 3 || valor.charAt(0) != '"' || valor.charAt(valor.length() - 1) != '"') {
+                continue;
+            }
+            try {
+                versoes.add(Long.parseLong(valor.substring(1, valor.length() - 1)));
+            } catch (NumberFormatException e) {
+                // ETag de outro recurso: não corresponde
+            }
+        }
+        return versoes;
+    }
+
+    static String of(PageResponse<TituloDTOResponse> page) {
+        long hash = hash(page.content());
+        hash = 31 * hash + page.pageNumber();
+        hash = 31 * hash + page.pageSize();
+        hash = 31 * hash + (page.totalElements() == null ? -1 : page.totalElements());
+        hash = 31 * hash + page.totalType().ordinal();
+        hash = 31 * hash + (page.hasNext() ? 1 : 0);
+        return weak(hash);
+    }
+
+    static String of(CursorPageResponse<TituloDTOResponse> page) {
+        long hash = hash(page.content());
+        hash = 31 * hash + page.pageSize();
+        hash = 31 * hash + (page.nextCursor() == null ? 0 : page.nextCursor().hashCode());
+        return weak(hash);
+    }
+
+    private static long hash(List<TituloDTOResponse> content) {
+        long hash = 1125899906842597L;
+        for (TituloDTOResponse titulo : content) {
+            hash = 31 * hash + titulo.id();
+            hash = 31 * hash + titulo.versao();
+        }
+        return hash;
+    }
+
+    private static String weak(long hash) {
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
@@ -0,0 +1,57 @@
+package com.sgerest.domain.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import com.sgerest.controller.DTO.maintenance.CacheStatsResponse;
+
+/**
+ * Estatísticas das regiões do cache de segundo nível do Hibernate.
+ *
+ * <p>
+ * Acertos e faltas vêm das estatísticas do Hibernate, que contam as consultas
+ * à região; tamanho e remoções vêm do cache Caffeine por trás da região, que o
+ * Hibernate não expõe.
+ */
+@Component
+public class HibernateCacheStats {
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public HibernateCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    public CacheStatsResponse stats(String regiao) {
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheRegionStatistics regionStats = statistics.isStatisticsEnabled()
+                ? statistics.getCacheRegionStatistics(regiao)
+                : null;
+        long hits = regionStats == null ? 0 : regionStats.getHitCount();
+        long misses = regionStats == null ? 0 : regionStats.getMissCount();
+        long consultas = hits + misses;
+
+        Cache<?, ?> cache = caffeine(regiao);
+        return new CacheStatsResponse(
+                cache == null ? 0 : cache.estimatedSize(),
+                hits,
+                misses,
+                consultas == 0 ? 1.0 : (double) hits / consultas,
+                cache == null ? 0 : cache.stats().evictionCount());
+    }
+
+    private Cache<?, ?> caffeine(String regiao) {
+        if (!(sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory)) {
+            return null;
+        }
+        javax.cache.Cache<?, ?> cache = regionFactory.getCacheManager().getCache(regiao);
+        return cache == null ? null : cache.unwrap(Cache.class);
+    }
+}
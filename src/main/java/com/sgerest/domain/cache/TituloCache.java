@@ -0,0 +1,104 @@
+package com.sgerest.domain.cache;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.sgerest.controller.DTO.maintenance.CacheStatsResponse;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+
+/**
+ * Cache local, limitado por tamanho e TTL, dos títulos lidos por ID.
+ *
+ * <p>
+ * Escritas só alteram o cache depois do commit da transação corrente: inclusões
+ * são publicadas no afterCommit e invalidações são aplicadas imediatamente e
+ * repetidas no afterCommit, para que uma leitura concorrente não recoloque a
+ * versão antiga entre a invalidação e o commit.
+ */
+@Component
+@Log4j2
+public class TituloCache implements MeterBinder {
+
+    private final Cache<Long, TituloDTOResponse> cache;
+
+    public TituloCache(
+            @Value("${sge.cache.titulos.maximum-size:10000}") long maximumSize,
+            @Value("${sge.cache.titulos.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        log.info("Cache de títulos configurado. Tamanho máximo: {}, TTL: {}", maximumSize, expireAfterWrite);
+    }
+
+    /**
+     * Retorna o título em cache ou o carrega com {@code loader}. O carregamento é
+     * atômico por chave, e exceções do loader não são armazenadas.
+     */
+    public TituloDTOResponse get(Long id, Function<Long, TituloDTOResponse> loader) {
+        return cache.get(id, loader);
+    }
+
+    public Optional<TituloDTOResponse> getIfPresent(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public void put(TituloDTOResponse titulo) {
+        afterCommit(() -> cache.put(titulo.id(), titulo));
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+        afterCommit(() -> cache.invalidate(id));
+    }
+
+    public void evictAll(Iterable<Long> ids) {
+        cache.invalidateAll(ids);
+        afterCommit(() -> cache.invalidateAll(ids));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "titulos");
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
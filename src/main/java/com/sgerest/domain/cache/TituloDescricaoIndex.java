@@ -0,0 +1,150 @@
+package com.sgerest.domain.cache;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.sgerest.config.ReplicaRoutingDataSource;
+import com.sgerest.controller.DTO.maintenance.IndexStatsResponse;
+import com.sgerest.domain.repository.TituloRepository;
+
+/**
+ * Índice em memória das descrições de título normalizadas (trim + minúsculas),
+ * usado para evitar consultas de duplicidade cujo resultado já se sabe negativo.
+ *
+ * <p>
+ * O índice só pode errar para o lado seguro: uma descrição ausente do índice
+ * certamente não existe no banco (desde que o índice esteja pronto), enquanto
+ * uma presente apenas "pode existir" e deve ser confirmada no banco. Por isso
+ * inclusões entram no índice antes do commit e remoções só depois dele. Renomeações
+ * não removem a descrição antiga, que fica como um falso positivo inofensivo até
+ * a próxima reconstrução.
+ *
+ * <p>
+ * Isso só vale se esta for a única instância que grava títulos: o índice não vê
+ * inclusões feitas por outras instâncias. Por isso os descartes ficam desligados
+ * até {@code sge.titulos.indice-descricoes.instancia-unica=true}, e até lá toda
+ * descrição "pode existir". Mesmo com eles ligados, uma inclusão concorrente ainda
+ * pode violar a restrição única no flush; ver {@code TituloService#cadastrarEmLote}.
+ */
+@Component
+@Log4j2
+public class TituloDescricaoIndex {
+
+    /*
+     * Estimativa de memória por entrada (JVM 64 bits, compressed oops, strings
+     * Latin-1): String (24) + cabeçalho do byte[] (16) + nó do ConcurrentHashMap
+     * (32) + slot da tabela (~8).
+     */
+    private static final int BYTES_POR_ENTRADA_FIXOS = 24 + 16 + 32 + 8;
+
+    private final TituloRepository tituloRepository;
+
+    private final boolean instanciaUnica;
+
+    private final Set<String> descricoes = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong consultasEvitadas = new AtomicLong();
+
+    private volatile boolean pronto;
+
+    private volatile long tempoConstrucaoMillis;
+
+    private volatile long bytesEstimados;
+
+    public TituloDescricaoIndex(TituloRepository tituloRepository,
+            @Value("${sge.titulos.indice-descricoes.instancia-unica:false}") boolean instanciaUnica) {
+        this.tituloRepository = tituloRepository;
+        this.instanciaUnica = instanciaUnica;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void construir() {
+        // do primário: uma réplica atrasada faria o índice dar como inexistente um título recém-criado
+        ReplicaRoutingDataSource.noPrimario(() -> {
+            try (Stream<String> todas = tituloRepository.streamAllDescricoes()) {
+                carregar(todas);
+            }
+        });
+    }
+
+    public void carregar(Stream<String> todas) {
+        long inicio = System.nanoTime();
+        long bytes = 0;
+        for (String descricao : (Iterable<String>) todas::iterator) {
+            String chave = normalizar(descricao);
+            descricoes.add(chave);
+            bytes += BYTES_POR_ENTRADA_FIXOS + alinhar(chave.length());
+        }
+        tempoConstrucaoMillis = (System.nanoTime() - inicio) / 1_000_000;
+        bytesEstimados = bytes;
+        pronto = true;
+
+        int entradas = descricoes.size();
+        log.info("Índice de descrições construído: {} entradas em {} ms (~{} KB; ~{} MB por milhão de entradas)",
+                entradas, tempoConstrucaoMillis, bytes / 1024,
+                entradas == 0 ? 0 : bytes * 1_000_000 / entradas / (1024 * 1024));
+    }
+
+    /**
+     * @return {@code false} apenas quando a descrição certamente não está cadastrada
+     */
+    public boolean podeConter(String descricao) {
+        if (!pronto || !instanciaUnica) {
+            return true;
+        }
+        boolean presente = descricoes.contains(normalizar(descricao));
+        if (!presente) {
+            consultasEvitadas.incrementAndGet();
+        }
+        return presente;
+    }
+
+    public void adicionar(String descricao) {
+        descricoes.add(normalizar(descricao));
+    }
+
+    public void remover(String descricao) {
+        String chave = normalizar(descricao);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            descricoes.remove(chave);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                descricoes.remove(chave);
+            }
+        });
+    }
+
+    public IndexStatsResponse stats() {
+        return new IndexStatsResponse(
+                pronto,
+                descricoes.size(),
+                tempoConstrucaoMillis,
+                bytesEstimados,
+                consultasEvitadas.get());
+    }
+
+    public static String normalizar(String descricao) {
+        return descricao.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long alinhar(int tamanho) {
+        return (tamanho + 7L) & ~7L;
+    }
+}
@@ -0,0 +1,223 @@
+package com.sgerest.domain.cache;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.sgerest.config.ReplicaRoutingDataSource;
+import com.sgerest.controller.DTO.maintenance.IndexStatsResponse;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.controller.DTO.titulo.TituloSugestaoResponse;
+import com.sgerest.domain.repository.TituloRepository;
+
+/**
+ * Índice ordenado em memória das descrições de título para autocompletar por
+ * prefixo sem consultar o banco.
+ *
+ * <p>
+ * As chaves são a descrição normalizada (trim, minúsculas e sem acentos)
+ * seguida do ID, o que mantém distintas descrições que só diferem na
+ * acentuação. Uma busca por prefixo é um {@code subMap} do
+ * {@link ConcurrentSkipListMap}: O(log n) até a primeira sugestão e depois
+ * apenas as entradas devolvidas.
+ *
+ * <p>
+ * Diferente do {@link TituloDescricaoIndex}, este índice precisa ser exato:
+ * inclusões, renomeações e remoções são aplicadas depois do commit, como no
+ * {@link TituloCache}. Escritas feitas por outras instâncias só aparecem na
+ * próxima reconstrução, feita na inicialização e depois a cada
+ * {@code sge.titulos.sugestoes.reconstrucao}. A reconstrução monta um índice novo
+ * enquanto o atual continua atendendo, e os troca de uma vez; durante ela os dois
+ * ocupam memória.
+ */
+@Component
+@Log4j2
+public class TituloSugestaoIndex {
+
+    private static final char SEPARADOR = '\u0000';
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+
+    /*
+     * Estimativa de memória por entrada (JVM 64 bits, compressed oops, strings
+     * Latin-1): chave String + byte[] (40), nó e índice do skip list (~40),
+     * registro da sugestão e Long (32), nó do mapa id -> chave com Long (48).
+     */
+    private static final int BYTES_POR_ENTRADA_FIXOS = 40 + 40 + 32 + 48;
+
+    private final TituloRepository tituloRepository;
+
+    private volatile Estado estado = new Estado();
+
+    /** Confirmadas durante uma carga, por ID (descrição nula = removido); guardado por {@code this}. */
+    private Map<Long, String> alteracoesDuranteCarga;
+
+    private final AtomicLong consultasAtendidas = new AtomicLong();
+
+    private volatile boolean pronto;
+
+    private volatile long tempoConstrucaoMillis;
+
+    public TituloSugestaoIndex(TituloRepository tituloRepository) {
+        this.tituloRepository = tituloRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${sge.titulos.sugestoes.reconstrucao:10m}",
+            fixedDelayString = "${sge.titulos.sugestoes.reconstrucao:10m}")
+    @Transactional(readOnly = true)
+    public void construir() {
+        // do primário, para não começar sem os títulos que a réplica ainda não recebeu
+        ReplicaRoutingDataSource.noPrimario(() -> recarregar(tituloRepository::streamAllSugestoes));
+    }
+
+    public void carregar(Stream<TituloSugestaoResponse> todos) {
+        recarregar(() -> todos);
+    }
+
+    /**
+     * Monta um índice novo e o troca pelo atual. Alterações confirmadas durante a
+     * carga são reaplicadas sobre o índice novo antes da troca: a leitura pode ter
+     * visto a versão anterior de uma linha renomeada, ou uma linha já removida.
+     * O registro começa antes da consulta, para não perder commits entre os dois.
+     */
+    private void recarregar(Supplier<Stream<TituloSugestaoResponse>> leitura) {
+        synchronized (this) {
+            if (alteracoesDuranteCarga != null) {
+                log.info("Reconstrução do índice de sugestões já em andamento");
+                return;
+            }
+            alteracoesDuranteCarga = new HashMap<>();
+        }
+        try {
+            long inicio = System.nanoTime();
+            Estado novo = new Estado();
+            try (Stream<TituloSugestaoResponse> todos = leitura.get()) {
+                todos.forEach(titulo -> novo.aplicar(titulo.id(), titulo.descricao()));
+            }
+            synchronized (this) {
+                alteracoesDuranteCarga.forEach(novo::aplicar);
+                estado = novo;
+            }
+            tempoConstrucaoMillis = (System.nanoTime() - inicio) / 1_000_000;
+            pronto = true;
+            log.info("Índice de sugestões de títulos construído: {} entradas em {} ms",
+                    novo.sugestoes.size(), tempoConstrucaoMillis);
+        } finally {
+            synchronized (this) {
+                alteracoesDuranteCarga = null;
+            }
+        }
+    }
+
+    /**
+     * Títulos cuja descrição normalizada começa com o prefixo normalizado, em
+     * ordem alfabética. Vazio enquanto o índice não estiver pronto.
+     */
+    public List<TituloSugestaoResponse> sugerir(String prefixo, int limite) {
+        consultasAtendidas.incrementAndGet();
+        String inicio = normalizar(prefixo);
+        List<TituloSugestaoResponse> resultado = new ArrayList<>(Math.min(limite, 16));
+        for (TituloSugestaoResponse titulo : estado.sugestoes.subMap(inicio, inicio + Character.MAX_VALUE).values()) {
+            if (resultado.size() == limite) {
+                break;
+            }
+            resultado.add(titulo);
+        }
+        return resultado;
+    }
+
+    public void registrar(TituloDTOResponse titulo) {
+        afterCommit(() -> alterar(titulo.id(), titulo.descricao()));
+    }
+
+    public void remover(Long id) {
+        afterCommit(() -> alterar(id, null));
+    }
+
+    public IndexStatsResponse stats() {
+        Estado atual = estado;
+        long bytes = 0;
+        for (String chave : atual.sugestoes.keySet()) {
+            bytes += BYTES_POR_ENTRADA_FIXOS + chave.length() * 2L;
+        }
+        return new IndexStatsResponse(
+                pronto,
+                atual.sugestoes.size(),
+                tempoConstrucaoMillis,
+                bytes,
+                consultasAtendidas.get());
+    }
+
+    public static String normalizar(String descricao) {
+        String semAcentos = MARCAS_DIACRITICAS
+                .matcher(Normalizer.normalize(descricao.trim(), Normalizer.Form.NFD))
+                .replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized void alterar(Long id, String descricao) {
+        estado.aplicar(id, descricao);
+        if (alteracoesDuranteCarga != null) {
+            alteracoesDuranteCarga.put(id, descricao);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Estado {
+
+        private final ConcurrentSkipListMap<String, TituloSugestaoResponse> sugestoes = new ConcurrentSkipListMap<>();
+
+        private final Map<Long, String> chavesPorId = new ConcurrentHashMap<>();
+
+        /**
+         * Inclui, renomeia ou, com {@code descricao} nula, remove o título.
+         */
+        void aplicar(Long id, String descricao) {
+            if (descricao == null) {
+                String chave = chavesPorId.remove(id);
+                if (chave != null) {
+                    sugestoes.remove(chave);
+                }
+                return;
+            }
+            String chave = normalizar(descricao) + SEPARADOR + id;
+            String anterior = chavesPorId.put(id, chave);
+            if (anterior != null && !anterior.equals(chave)) {
+                sugestoes.remove(anterior);
+            }
+            sugestoes.put(chave, new TituloSugestaoResponse(id, descricao));
+        }
+    }
+}
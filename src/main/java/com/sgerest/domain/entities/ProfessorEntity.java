@@ -0,0 +1,77 @@
+package com.sgerest.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "professor")
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+public class ProfessorEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "professor_seq")
+    @SequenceGenerator(name = "professor_seq", sequenceName = "professor_id_professor_seq", allocationSize = 50)
+    @Column(name = "id_professor")
+    private Long id;
+
+    /**
+     * Sempre LAZY: leituras usam projeções que já trazem o título no mesmo SELECT.
+     * {@code fk_professor_titulo} é ON DELETE CASCADE no banco.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "id_titulo", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TituloEntity titulo;
+
+    @Column(name = "tx_nome", length = 100, nullable = false)
+    private String nome;
+
+    @Column(name = "tx_sexo", length = 1, nullable = false)
+    private String sexo;
+
+    @Column(name = "tx_estado_civil", length = 1, nullable = false)
+    private String estadoCivil;
+
+    @Column(name = "dt_nascimento", nullable = false)
+    private LocalDate dataNascimento;
+
+    @Column(name = "tx_telefone", length = 13, nullable = false)
+    private String telefone;
+
+    @Column(name = "data_contratacao", nullable = false)
+    private LocalDate dataContratacao;
+
+    @Column(name = "ativo", nullable = false)
+    private Boolean ativo;
+
+    @PrePersist
+    void aplicarPadroes() {
+        if (dataContratacao == null) {
+            dataContratacao = LocalDate.now();
+        }
+        if (ativo == null) {
+            ativo = Boolean.TRUE;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.sgerest.domain.entities;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,18 +19,28 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "titulo")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TituloEntity.REGIAO_CACHE)
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
 @NoArgsConstructor
 public class TituloEntity {
 
+    /** Região do cache de segundo nível, configurada em {@code application.conf}. */
+    public static final String REGIAO_CACHE = "titulo";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "titulo_seq")
+    @SequenceGenerator(name = "titulo_seq", sequenceName = "titulo_id_titulo_seq", allocationSize = 50)
     @Column(name = "id_titulo")
     private Long id;
 
     @Column(name = "tx_descricao", length = 150, unique = true, nullable = false)
     private String descricao;
 
+    @Version
+    @Column(name = "nr_versao", nullable = false)
+    private Long versao;
+
 }
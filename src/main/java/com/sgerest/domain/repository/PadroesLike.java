@@ -0,0 +1,29 @@
+package com.sgerest.domain.repository;
+
+/**
+ * Monta padrões LIKE a partir de texto digitado pelo usuário, escapando os
+ * curingas com {@link #ESCAPE} (usar {@code escape '!'} na consulta).
+ */
+final class PadroesLike {
+
+    static final char ESCAPE = '!';
+
+    private PadroesLike() {
+    }
+
+    static String contendo(String termo) {
+        return '%' + escapar(termo) + '%';
+    }
+
+    static String escapar(String termo) {
+        StringBuilder sb = new StringBuilder(termo.length() + 8);
+        for (int i = 0; i < termo.length(); i++) {
+            char c = termo.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sgerest.domain.repository;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.sgerest.controller.DTO.professor.ProfessorDTOResponse;
+import com.sgerest.domain.entities.ProfessorEntity;
+
+/**
+ * As leituras devolvem {@link ProfessorDTOResponse} montado no SELECT, com o
+ * título no mesmo JOIN: uma página custa a consulta da página e a contagem, sem
+ * carregar o título de cada linha.
+ */
+@Repository
+public interface ProfessorRepository extends JpaRepository<ProfessorEntity, Long>, ProfessorRepositoryCustom {
+
+    String PROJECAO = """
+            select new com.sgerest.controller.DTO.professor.ProfessorDTOResponse(
+                p.id, p.nome, p.sexo, p.estadoCivil, p.dataNascimento, p.telefone,
+                p.dataContratacao, p.ativo, t.id, t.descricao)
+            from ProfessorEntity p
+            join p.titulo t
+            """;
+
+    @Query(PROJECAO + "where p.id = :id")
+    Optional<ProfessorDTOResponse> findDTOById(Long id);
+
+    @Query(value = PROJECAO, countQuery = "select count(p) from ProfessorEntity p")
+    Page<ProfessorDTOResponse> findAllDTO(Pageable pageable);
+
+    @Query(value = PROJECAO + "where t.id = :tituloId",
+            countQuery = "select count(p) from ProfessorEntity p where p.titulo.id = :tituloId")
+    Page<ProfessorDTOResponse> findAllDTOByTituloId(Long tituloId, Pageable pageable);
+
+    /**
+     * Todos os professores com o título, em ordem de ID, lidos por um único
+     * cursor; ver {@link TituloRepository#streamAllParaExportacao()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TituloRepository.FETCH_SIZE_EXPORTACAO))
+    @Query(PROJECAO + "order by p.id")
+    Stream<ProfessorDTOResponse> streamAllParaExportacao();
+}
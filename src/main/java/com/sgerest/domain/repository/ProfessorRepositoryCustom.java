@@ -0,0 +1,24 @@
+package com.sgerest.domain.repository;
+
+import java.util.List;
+
+import com.sgerest.controller.DTO.professor.ProfessorDTOResponse;
+
+/**
+ * Operações de {@link ProfessorRepository} que dependem de recursos específicos
+ * do banco, com caminho otimizado para PostgreSQL e caminho portável para os
+ * demais bancos (H2 nos testes).
+ */
+public interface ProfessorRepositoryCustom {
+
+    /**
+     * Professores cujo nome contém {@code termo}, sem distinguir maiúsculas de
+     * minúsculas. No PostgreSQL o índice GiST de trigramas atende o filtro
+     * {@code ILIKE '%termo%'} e a ordenação por distância ({@code <->}, o inverso de
+     * {@code similarity()}), parando nas {@code limite} mais próximas;
+     * nos demais bancos, correspondência exata, depois prefixo, depois os nomes
+     * mais curtos.
+     */
+    List<ProfessorDTOResponse> searchByNome(String termo, int limite);
+
+}
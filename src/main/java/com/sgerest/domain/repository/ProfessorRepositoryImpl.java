@@ -0,0 +1,81 @@
+package com.sgerest.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sgerest.controller.DTO.professor.ProfessorDTOResponse;
+
+class ProfessorRepositoryImpl implements ProfessorRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgreSQL;
+
+    @Override
+    public List<ProfessorDTOResponse> searchByNome(String termo, int limite) {
+        if (isPostgreSQL()) {
+            // <-> não existe no HQL: os IDs vêm em SQL nativo, na ordem do índice (sem
+            // desempate, como em TituloRepositoryImpl), e a projeção com o título em seguida
+            List<?> ids = entityManager.createNativeQuery("""
+                    SELECT id_professor
+                    FROM professor
+                    WHERE tx_nome ILIKE :padrao ESCAPE '!'
+                    ORDER BY tx_nome <-> :termo
+                    LIMIT :limite
+                    """)
+                    .setParameter("padrao", PadroesLike.contendo(termo))
+                    .setParameter("termo", termo)
+                    .setParameter("limite", limite)
+                    .getResultList();
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, Integer> posicoes = new HashMap<>();
+            for (Object id : ids) {
+                posicoes.put(((Number) id).longValue(), posicoes.size());
+            }
+            List<ProfessorDTOResponse> professores = new ArrayList<>(entityManager.createQuery(
+                    ProfessorRepository.PROJECAO + "where p.id in :ids", ProfessorDTOResponse.class)
+                    .setParameter("ids", posicoes.keySet())
+                    .getResultList());
+            professores.sort(Comparator.comparing(professor -> posicoes.get(professor.id())));
+            return professores;
+        }
+
+        return entityManager.createQuery(ProfessorRepository.PROJECAO + """
+                where p.nome ilike :padrao escape '!'
+                order by case
+                    when lower(p.nome) = lower(:termo) then 0
+                    when p.nome ilike :prefixo escape '!' then 1
+                    else 2 end,
+                  length(p.nome), p.id
+                """, ProfessorDTOResponse.class)
+                .setParameter("padrao", PadroesLike.contendo(termo))
+                .setParameter("prefixo", PadroesLike.escapar(termo) + '%')
+                .setParameter("termo", termo)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private boolean isPostgreSQL() {
+        Boolean result = postgreSQL;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgreSQL = result;
+        }
+        return result;
+    }
+}
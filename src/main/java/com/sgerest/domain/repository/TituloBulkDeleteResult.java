@@ -0,0 +1,14 @@
+package com.sgerest.domain.repository;
+
+import java.util.List;
+
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+
+/**
+ * Resultado de uma exclusão em lote de títulos: os títulos efetivamente removidos
+ * e a quantidade de professores removidos em cascata ({@code fk_professor_titulo}).
+ */
+public record TituloBulkDeleteResult(
+        List<TituloDTOResponse> removidos,
+        long professoresRemovidos) {
+}
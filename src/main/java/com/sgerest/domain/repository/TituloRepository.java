@@ -1,19 +1,138 @@
 package com.sgerest.domain.repository;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.controller.DTO.titulo.TituloSugestaoResponse;
 import com.sgerest.domain.entities.TituloEntity;
 
-public interface TituloRepository extends JpaRepository<TituloEntity, Long> {
+public interface TituloRepository extends JpaRepository<TituloEntity, Long>, TituloRepositoryCustom {
+
+    /**
+     * Linhas buscadas por ida ao banco nas exportações. No PostgreSQL, dentro de
+     * uma transação, o driver usa um cursor no servidor e mantém em memória só
+     * esse lote.
+     */
+    String FETCH_SIZE_EXPORTACAO = "1000";
+
+    /**
+     * Região do cache de consultas das listagens. O Hibernate descarta um resultado
+     * quando a tabela {@code titulo} foi escrita depois dele; escritas por SQL nativo
+     * em {@link TituloRepositoryImpl} avisam o Hibernate explicitamente. Só as
+     * primeiras páginas usam o cache: as continuações por cursor têm chaves demais
+     * para que um acerto seja provável. Com réplicas, só as leituras do primário
+     * passam pela região ({@link TituloRepositoryCustom#ignorarCacheDeSegundoNivel}).
+     */
+    String REGIAO_CACHE_CONSULTAS = "titulo-consultas";
 
     Optional<TituloEntity> findByDescricao(String descricao);
 
     boolean existsByDescricaoIgnoreCase(String descricao);
 
+    /**
+     * Início das leituras que projetam direto em {@link TituloDTOResponse}: nada
+     * entra no contexto de persistência, não há snapshot para dirty checking nem
+     * mapeamento entidade -> DTO depois da consulta.
+     */
+    String PROJECAO_DTO = """
+            select new com.sgerest.controller.DTO.titulo.TituloDTOResponse(t.id, t.descricao, t.versao)
+            from TituloEntity t
+            """;
+
     Page<TituloEntity> findAll(Pageable pageable);
 
+    /**
+     * Chamado pelo serviço fora de transação (o cache de títulos atende a maior
+     * parte das leituras por ID). O serviço só guarda no cache o que não veio de
+     * uma réplica.
+     */
+    @Transactional(readOnly = true)
+    @Query(PROJECAO_DTO + "where t.id = :id")
+    Optional<TituloDTOResponse> findDTOById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CACHE_CONSULTAS) })
+    @Query(value = PROJECAO_DTO, countQuery = "select count(t) from TituloEntity t")
+    Page<TituloDTOResponse> findAllDTO(Pageable pageable);
+
+    /**
+     * Busca {@code size + 1} linhas para saber se há próxima página, sem executar COUNT(*).
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CACHE_CONSULTAS) })
+    @Query(PROJECAO_DTO)
+    Slice<TituloDTOResponse> findAllDTOBy(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CACHE_CONSULTAS) })
+    @Query(PROJECAO_DTO + "order by t.id asc")
+    List<TituloDTOResponse> findAllOrderById(Limit limit);
+
+    @Query(PROJECAO_DTO + "where t.id > :id order by t.id asc")
+    List<TituloDTOResponse> findAfterId(@Param("id") Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CACHE_CONSULTAS) })
+    @Query(PROJECAO_DTO + "order by t.descricao asc, t.id asc")
+    List<TituloDTOResponse> findAllOrderByDescricao(Limit limit);
+
+    /**
+     * Busca a página seguinte a (descricao, id) na ordenação por descrição.
+     * O predicado {@code descricao >= :descricao} permite ao banco fazer um range scan
+     * no índice único da descrição; o desempate por ID mantém a ordenação total.
+     */
+    @Query(PROJECAO_DTO + """
+            where t.descricao >= :descricao
+              and (t.descricao > :descricao or t.id > :id)
+            order by t.descricao asc, t.id asc
+            """)
+    List<TituloDTOResponse> findAfterDescricao(@Param("descricao") String descricao, @Param("id") Long id,
+            Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("select t.versao from TituloEntity t where t.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    @Query("select t.descricao from TituloEntity t")
+    Stream<String> streamAllDescricoes();
+
+    /**
+     * Todos os títulos em ordem de ID, lidos por um único cursor. A projeção em DTO
+     * não coloca entidades no contexto de persistência, então o consumo de memória
+     * não cresce com o número de linhas.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_EXPORTACAO))
+    @Query(PROJECAO_DTO + "order by t.id")
+    Stream<TituloDTOResponse> streamAllParaExportacao();
+
+    @Query("select new com.sgerest.controller.DTO.titulo.TituloSugestaoResponse(t.id, t.descricao) from TituloEntity t")
+    Stream<TituloSugestaoResponse> streamAllSugestoes();
+
+    /**
+     * Retorna, em minúsculas, as descrições já cadastradas dentre as informadas.
+     * As descrições de entrada devem estar normalizadas em minúsculas.
+     */
+    @Query("select lower(t.descricao) from TituloEntity t where lower(t.descricao) in :descricoes")
+    List<String> findDescricoesExistentes(@Param("descricoes") Collection<String> descricoes);
+
 }
@@ -0,0 +1,73 @@
+package com.sgerest.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+
+/**
+ * Operações de {@link TituloRepository} que dependem de SQL específico do banco.
+ * Cada operação tem um caminho otimizado para PostgreSQL e um caminho portável
+ * para os demais bancos (H2 nos testes).
+ */
+public interface TituloRepositoryCustom {
+
+    /**
+     * Quantidade aproximada de linhas de {@code titulo} segundo as estatísticas do
+     * planejador ({@code pg_class.reltuples}). Vazio quando o banco não oferece a
+     * estimativa ou a tabela ainda não foi analisada.
+     */
+    OptionalLong estimateCount();
+
+    /**
+     * Até o fim da transação atual, as consultas não leem nem gravam no cache de
+     * consultas nem no cache de entidades ({@code CacheMode.IGNORE}). Usado quando
+     * a transação lê de uma réplica, cujo resultado pode estar atrasado. Não serve
+     * {@code CacheMode.GET}: numa falta o Hibernate grava o resultado mesmo assim.
+     */
+    void ignorarCacheDeSegundoNivel();
+
+    /**
+     * Insere o título caso não exista outro com a mesma descrição, ignorando
+     * maiúsculas/minúsculas. No PostgreSQL é um único
+     * {@code INSERT ... ON CONFLICT DO NOTHING RETURNING}, com o ID reservado pelo
+     * gerador da entidade; um conflito descarta só esse ID.
+     *
+     * @return o ID gerado, ou vazio se a descrição já existir
+     */
+    Optional<Long> insertIfAbsent(String descricao);
+
+    /**
+     * Altera a descrição do título e incrementa sua versão. No PostgreSQL é um
+     * único {@code UPDATE ... RETURNING}. Com {@code versaoEsperada}, a alteração
+     * só ocorre se a versão atual for a esperada.
+     *
+     * @return o título atualizado, ou vazio se o ID não existir ou a versão não
+     *         conferir
+     * @throws org.springframework.dao.DataIntegrityViolationException se a nova
+     *                                                                 descrição já
+     *                                                                 pertencer a
+     *                                                                 outro título
+     */
+    Optional<TituloDTOResponse> updateDescricao(Long id, String descricao, Long versaoEsperada);
+
+    /**
+     * Remove os títulos informados com um único DELETE baseado em conjunto. No
+     * PostgreSQL é um {@code DELETE ... WHERE id_titulo = ANY(?) RETURNING} que
+     * também conta os professores removidos em cascata.
+     */
+    TituloBulkDeleteResult deleteAllByIdIn(Collection<Long> ids);
+
+    /**
+     * Títulos cuja descrição contém {@code termo}, sem distinguir maiúsculas de
+     * minúsculas. No PostgreSQL o índice GiST de trigramas atende o filtro
+     * {@code ILIKE '%termo%'} e a ordenação por distância ({@code <->}, o inverso de
+     * {@code similarity()}), parando nas {@code limite} mais próximas;
+     * nos demais bancos, correspondência exata, depois prefixo, depois as
+     * descrições mais curtas.
+     */
+    List<TituloDTOResponse> searchByDescricao(String termo, int limite);
+
+}
@@ -0,0 +1,264 @@
+package com.sgerest.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.domain.entities.TituloEntity;
+
+class TituloRepositoryImpl implements TituloRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgreSQL;
+
+    @Override
+    public OptionalLong estimateCount() {
+        if (!isPostgreSQL()) {
+            return OptionalLong.empty();
+        }
+        List<?> rows = entityManager
+                .createNativeQuery("SELECT reltuples FROM pg_class WHERE oid = to_regclass('titulo')")
+                .getResultList();
+        // reltuples = -1 indica tabela ainda não analisada (PostgreSQL 14+)
+        if (rows.isEmpty() || ((Number) rows.get(0)).doubleValue() < 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(((Number) rows.get(0)).longValue());
+    }
+
+    @Override
+    public void ignorarCacheDeSegundoNivel() {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+    }
+
+    @Override
+    public Optional<Long> insertIfAbsent(String descricao) {
+        if (isPostgreSQL()) {
+            invalidarCacheSegundoNivel("titulo");
+            List<?> rows = entityManager.createNativeQuery("""
+                    INSERT INTO titulo (id_titulo, tx_descricao) VALUES (:id, :descricao)
+                    ON CONFLICT DO NOTHING
+                    RETURNING id_titulo
+                    """)
+                    .setParameter("id", proximoId())
+                    .setParameter("descricao", descricao)
+                    .getResultList();
+            return rows.stream().findFirst().map(id -> ((Number) id).longValue());
+        }
+
+        if (existsDescricaoIgnoreCase(descricao, null)) {
+            return Optional.empty();
+        }
+        TituloEntity titulo = new TituloEntity();
+        titulo.setDescricao(descricao);
+        entityManager.persist(titulo);
+        entityManager.flush();
+        return Optional.of(titulo.getId());
+    }
+
+    @Override
+    public Optional<TituloDTOResponse> updateDescricao(Long id, String descricao, Long versaoEsperada) {
+        if (isPostgreSQL()) {
+            invalidarCacheSegundoNivel("titulo");
+            Query update;
+            if (versaoEsperada == null) {
+                update = entityManager.createNativeQuery("""
+                        UPDATE titulo SET tx_descricao = :descricao, nr_versao = nr_versao + 1
+                        WHERE id_titulo = :id
+                        RETURNING id_titulo, tx_descricao, nr_versao
+                        """);
+            } else {
+                update = entityManager.createNativeQuery("""
+                        UPDATE titulo SET tx_descricao = :descricao, nr_versao = nr_versao + 1
+                        WHERE id_titulo = :id AND nr_versao = :versao
+                        RETURNING id_titulo, tx_descricao, nr_versao
+                        """)
+                        .setParameter("versao", versaoEsperada);
+            }
+            List<?> rows = update
+                    .setParameter("descricao", descricao)
+                    .setParameter("id", id)
+                    .getResultList();
+            return rows.stream().findFirst().map(row -> {
+                Object[] colunas = (Object[]) row;
+                return new TituloDTOResponse(((Number) colunas[0]).longValue(), (String) colunas[1],
+                        ((Number) colunas[2]).longValue());
+            });
+        }
+
+        TituloEntity titulo = entityManager.find(TituloEntity.class, id);
+        if (titulo == null || (versaoEsperada != null && !versaoEsperada.equals(titulo.getVersao()))) {
+            return Optional.empty();
+        }
+        if (existsDescricaoIgnoreCase(descricao, id)) {
+            throw new DuplicateKeyException("uk_titulo_descricao_lower: " + descricao);
+        }
+        titulo.setDescricao(descricao);
+        entityManager.flush();
+        return Optional.of(new TituloDTOResponse(titulo.getId(), titulo.getDescricao(), titulo.getVersao()));
+    }
+
+    @Override
+    public TituloBulkDeleteResult deleteAllByIdIn(Collection<Long> ids) {
+        if (isPostgreSQL()) {
+            // o ON DELETE CASCADE também remove professores
+            invalidarCacheSegundoNivel("titulo", "professor");
+            List<?> rows = entityManager.createNativeQuery("""
+                    WITH dependentes AS (
+                        SELECT count(*) AS professores
+                        FROM professor
+                        WHERE id_titulo = ANY(CAST(:ids AS bigint[]))
+                    ), removidos AS (
+                        DELETE FROM titulo
+                        WHERE id_titulo = ANY(CAST(:ids AS bigint[]))
+                        RETURNING id_titulo, tx_descricao, nr_versao
+                    )
+                    SELECT r.id_titulo, r.tx_descricao, r.nr_versao, d.professores
+                    FROM removidos r CROSS JOIN dependentes d
+                    """)
+                    .setParameter("ids", ids.toArray(Long[]::new))
+                    .getResultList();
+            List<TituloDTOResponse> removidos = new ArrayList<>(rows.size());
+            long professores = 0;
+            for (Object row : rows) {
+                Object[] colunas = (Object[]) row;
+                removidos.add(new TituloDTOResponse(((Number) colunas[0]).longValue(), (String) colunas[1],
+                        ((Number) colunas[2]).longValue()));
+                professores = ((Number) colunas[3]).longValue();
+            }
+            return new TituloBulkDeleteResult(removidos, professores);
+        }
+
+        List<TituloDTOResponse> removidos = entityManager.createQuery("""
+                select new com.sgerest.controller.DTO.titulo.TituloDTOResponse(t.id, t.descricao, t.versao)
+                from TituloEntity t
+                where t.id in :ids
+                """, TituloDTOResponse.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        long professores = 0;
+        if (!removidos.isEmpty()) {
+            professores = entityManager.createQuery(
+                    "select count(p) from ProfessorEntity p where p.titulo.id in :ids", Long.class)
+                    .setParameter("ids", ids)
+                    .getSingleResult();
+            entityManager.createQuery("delete from TituloEntity t where t.id in :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+        }
+        return new TituloBulkDeleteResult(removidos, professores);
+    }
+
+    @Override
+    public List<TituloDTOResponse> searchByDescricao(String termo, int limite) {
+        if (isPostgreSQL()) {
+            // <-> (distância de trigramas) não existe no HQL. Sem desempate por ID: uma
+            // segunda chave impede o PostgreSQL de usar a ordem do índice e o faz ordenar
+            // todas as correspondências
+            List<?> rows = entityManager.createNativeQuery("""
+                    SELECT id_titulo, tx_descricao, nr_versao
+                    FROM titulo
+                    WHERE tx_descricao ILIKE :padrao ESCAPE '!'
+                    ORDER BY tx_descricao <-> :termo
+                    LIMIT :limite
+                    """)
+                    .setParameter("padrao", PadroesLike.contendo(termo))
+                    .setParameter("termo", termo)
+                    .setParameter("limite", limite)
+                    .getResultList();
+            List<TituloDTOResponse> titulos = new ArrayList<>(rows.size());
+            for (Object row : rows) {
+                Object[] colunas = (Object[]) row;
+                titulos.add(new TituloDTOResponse(((Number) colunas[0]).longValue(), (String) colunas[1],
+                        ((Number) colunas[2]).longValue()));
+            }
+            return titulos;
+        }
+
+        return entityManager.createQuery("""
+                select new com.sgerest.controller.DTO.titulo.TituloDTOResponse(t.id, t.descricao, t.versao)
+                from TituloEntity t
+                where t.descricao ilike :padrao escape '!'
+                order by case
+                    when lower(t.descricao) = lower(:termo) then 0
+                    when t.descricao ilike :prefixo escape '!' then 1
+                    else 2 end,
+                  length(t.descricao), t.id
+                """, TituloDTOResponse.class)
+                .setParameter("padrao", PadroesLike.contendo(termo))
+                .setParameter("prefixo", PadroesLike.escapar(termo) + '%')
+                .setParameter("termo", termo)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private boolean existsDescricaoIgnoreCase(String descricao, Long ignorarId) {
+        return !entityManager.createQuery("""
+                select t.id from TituloEntity t
+                where lower(t.descricao) = lower(:descricao)
+                  and (:ignorarId is null or t.id <> :ignorarId)
+                """, Long.class)
+                .setParameter("descricao", descricao)
+                .setParameter("ignorarId", ignorarId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    /**
+     * As escritas nativas usam {@code getResultList()} por causa do RETURNING, e não
+     * {@code executeUpdate()}, então o Hibernate não sabe quais tabelas mudaram.
+     * Registra a mesma limpeza que ele faria num DML em massa: descarta as regiões
+     * de entidades dessas tabelas e marca as tabelas no cache de timestamps, o que
+     * invalida os resultados do cache de consultas que dependem delas.
+     */
+    /**
+     * ID tirado do mesmo otimizador "pooled" que o {@code persist} usa. O default
+     * da coluna faria um {@code nextval} por cadastro, e com {@code INCREMENT BY 50}
+     * (V3) cada um consumiria 50 IDs.
+     */
+    private Long proximoId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator gerador = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(TituloEntity.class)
+                .getGenerator();
+        return ((Number) gerador.generate(session, null, null, EventType.INSERT)).longValue();
+    }
+
+    private void invalidarCacheSegundoNivel(String... tabelas) {
+        BulkOperationCleanupAction.schedule(entityManager.unwrap(SharedSessionContractImplementor.class),
+                Set.of(tabelas));
+    }
+
+    private boolean isPostgreSQL() {
+        Boolean result = postgreSQL;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgreSQL = result;
+        }
+        return result;
+    }
+}
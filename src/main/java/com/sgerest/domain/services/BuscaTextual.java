@@ -0,0 +1,31 @@
+package com.sgerest.domain.services;
+
+/**
+ * Validação comum das buscas por substring. Termos com menos de três
+ * caracteres não formam nenhum trigrama completo e obrigariam o PostgreSQL a
+ * percorrer o índice inteiro, por isso são rejeitados.
+ */
+public final class BuscaTextual {
+
+    public static final int TAMANHO_MINIMO_TERMO = 3;
+
+    public static final int LIMITE_MAXIMO = 100;
+
+    private BuscaTextual() {
+    }
+
+    static String normalizarTermo(String termo) {
+        String normalizado = termo == null ? "" : termo.strip();
+        if (normalizado.length() < TAMANHO_MINIMO_TERMO) {
+            throw new IllegalArgumentException(
+                    "O termo de busca deve ter pelo menos " + TAMANHO_MINIMO_TERMO + " caracteres.");
+        }
+        return normalizado;
+    }
+
+    static void validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+    }
+}
@@ -1,30 +1,145 @@
 package com.sgerest.domain.services;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.log4j.Log4j2;
 
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sgerest.controller.DTO.maintenance.MigrationJobResponse;
+import com.sgerest.exception.ArgumentNotFoundException;
+
+/**
+ * Executa as migrações do Flyway como jobs em segundo plano.
+ *
+ * <p>
+ * Cada job espera o {@link MigrationAdvisoryLock} por até
+ * {@code sge.migrations.lock-wait-timeout}; se outra instância mantiver o lock
+ * durante toda a espera, o job termina como {@code IGNORADO} sem migrar (com
+ * {@code 0s} a instância pula na hora). Nesta instância há no máximo um job ativo:
+ * pedir outro enquanto ele roda devolve o mesmo job. Os últimos
+ * {@code sge.migrations.history-size} jobs ficam disponíveis para consulta.
+ *
+ * <p>
+ * Jobs e andamento vivem só na memória da instância que aceitou o pedido, e
+ * cada resposta traz o {@code instanceId} dela ({@code sge.instance-id}). Com
+ * várias instâncias atrás de um balanceador, a consulta do job precisa chegar à
+ * mesma instância (afinidade de sessão ou acesso direto pelo {@code instanceId});
+ * nas demais ela recebe 404.
+ */
 @Service
 @Log4j2
 public class DatabaseMigrationService {
 
     private final Flyway flyway;
+    private final MigrationAdvisoryLock lock;
+    private final MigrationProgressCallback progresso;
+    private final Duration esperaLock;
+    private final int tamanhoHistorico;
+    private final String instancia;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("migration-job").daemon().factory());
+    private final Map<UUID, MigrationJob> jobs = new LinkedHashMap<>();
 
-    public DatabaseMigrationService(Flyway flyway) {
+    public DatabaseMigrationService(Flyway flyway, MigrationAdvisoryLock lock, MigrationProgressCallback progresso,
+            @Value("${sge.migrations.lock-wait-timeout:15m}") Duration esperaLock,
+            @Value("${sge.migrations.history-size:20}") int tamanhoHistorico,
+            @Value("${sge.instance-id:}") String instancia) {
         this.flyway = flyway;
+        this.lock = lock;
+        this.progresso = progresso;
+        this.esperaLock = esperaLock;
+        this.tamanhoHistorico = tamanhoHistorico;
+        this.instancia = instancia.isBlank() ? UUID.randomUUID().toString() : instancia;
     }
 
-    public int executeMigrations() {
-        try {
-            log.info("Iniciando execução de migrações Flyway...");
-            int count = flyway.migrate().migrationsExecuted;
-            log.info("Migrações executadas com sucesso. Total: {}", count);
-            return count;
+    /**
+     * Agenda a execução das migrações e devolve o job sem esperar por ela.
+     */
+    public synchronized MigrationJobResponse iniciarMigracao() {
+        Optional<MigrationJob> ativo = jobs.values().stream().filter(MigrationJob::ativo).findFirst();
+        if (ativo.isPresent()) {
+            log.info("Job de migração {} já em andamento", ativo.get().id());
+            return ativo.get().toResponse();
+        }
+        MigrationJob job = new MigrationJob(instancia);
+        jobs.put(job.id(), job);
+        while (jobs.size() > tamanhoHistorico) {
+            jobs.remove(jobs.keySet().iterator().next());
+        }
+        executor.execute(() -> executar(job));
+        log.info("Job de migração {} agendado", job.id());
+        return job.toResponse();
+    }
+
+    public synchronized MigrationJobResponse buscarJob(UUID id) {
+        MigrationJob job = jobs.get(id);
+        if (job == null) {
+            throw new ArgumentNotFoundException(
+                    "Job de migração não encontrado na instância " + instancia + ": " + id);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Jobs do histórico, do mais recente para o mais antigo.
+     */
+    public synchronized List<MigrationJobResponse> listarJobs() {
+        List<MigrationJobResponse> lista = new ArrayList<>(jobs.size());
+        for (MigrationJob job : jobs.values()) {
+            lista.addFirst(job.toResponse());
+        }
+        return lista;
+    }
+
+    /**
+     * O job só é dado como concluído depois de liberado o lock: quem vê
+     * {@code CONCLUIDO} e pede outra execução não fica esperando por este job.
+     */
+    private void executar(MigrationJob job) {
+        int count;
+        try (MigrationAdvisoryLock.Bloqueio bloqueio = lock.adquirir(esperaLock).orElse(null)) {
+            if (bloqueio == null) {
+                log.warn("Job de migração {} ignorado: outra instância manteve o lock por {}", job.id(), esperaLock);
+                job.ignorar("Outra instância está executando as migrações");
+                return;
+            }
+            MigrationInfo[] pendentes = flyway.info().pending();
+            log.info("Job de migração {} iniciado. Migrações pendentes: {}", job.id(), pendentes.length);
+            job.iniciar(pendentes);
+            progresso.acompanhar(job);
+            try {
+                count = flyway.migrate().migrationsExecuted;
+            } finally {
+                progresso.acompanhar(null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.falhar("Job interrompido durante o encerramento da aplicação");
+            return;
         } catch (Exception e) {
-            log.error("Erro ao executar migrações: {}", e.getMessage(), e);
-            throw new RuntimeException("Falha ao executar migrações do banco de dados", e);
+            log.error("Erro no job de migração {}: {}", job.id(), e.getMessage(), e);
+            job.falhar(e.getMessage());
+            return;
         }
+        job.concluir(count);
+        log.info("Job de migração {} concluído. Total: {}", job.id(), count);
     }
 
-}
\ No newline at end of file
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+}
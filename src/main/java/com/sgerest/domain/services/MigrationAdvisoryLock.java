@@ -0,0 +1,118 @@
+package com.sgerest.domain.services;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Garante que só uma instância execute migrações por vez.
+ *
+ * <p>
+ * No PostgreSQL usa um advisory lock de sessão ({@code pg_try_advisory_lock}),
+ * mantido até o fim do job em uma conexão aberta direto pelo driver, fora do pool
+ * do Hikari: a espera pelo lock pode durar {@code sge.migrations.lock-wait-timeout}
+ * e não deve ocupar uma das conexões disputadas pelas requisições. Se a instância
+ * cair, o banco libera o lock junto com a sessão. Nos demais bancos (H2 dos
+ * testes) o lock vale só para esta JVM.
+ */
+@Component
+@Log4j2
+public class MigrationAdvisoryLock {
+
+    /** "SGE_MIG" em ASCII; a mesma chave em todas as instâncias. */
+    static final long CHAVE = 0x5347455F4D4947L;
+
+    private static final long INTERVALO_TENTATIVA_MS = 500;
+
+    /** Sem pool: cada {@code getConnection} abre uma sessão nova no primário. */
+    private final DriverManagerDataSource conexoes;
+    private final Semaphore local = new Semaphore(1);
+
+    public MigrationAdvisoryLock(DataSourceProperties properties) {
+        this.conexoes = new DriverManagerDataSource(
+                properties.determineUrl(), properties.determineUsername(), properties.determinePassword());
+        this.conexoes.setDriverClassName(properties.determineDriverClassName());
+    }
+
+    /**
+     * Tenta adquirir o lock por até {@code espera} ({@link Duration#ZERO} tenta uma
+     * vez só). Vazio se outra instância o manteve durante toda a espera.
+     */
+    public Optional<Bloqueio> adquirir(Duration espera) throws SQLException, InterruptedException {
+        boolean postgres;
+        try (Connection connection = conexoes.getConnection()) {
+            postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        }
+        if (!postgres) {
+            return local.tryAcquire(espera.toMillis(), TimeUnit.MILLISECONDS)
+                    ? Optional.of(local::release)
+                    : Optional.empty();
+        }
+        Connection connection = conexoes.getConnection();
+        boolean adquirido = false;
+        try {
+            adquirido = tentarAte(connection, System.nanoTime() + espera.toNanos());
+        } finally {
+            if (!adquirido) {
+                connection.close();
+            }
+        }
+        return adquirido ? Optional.of(() -> liberar(connection)) : Optional.empty();
+    }
+
+    private static boolean tentarAte(Connection connection, long limite) throws SQLException, InterruptedException {
+        try (PreparedStatement statement = connection.prepareStatement("select pg_try_advisory_lock(?)")) {
+            statement.setLong(1, CHAVE);
+            while (true) {
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next() && rs.getBoolean(1)) {
+                        return true;
+                    }
+                }
+                if (System.nanoTime() >= limite) {
+                    return false;
+                }
+                Thread.sleep(INTERVALO_TENTATIVA_MS);
+            }
+        }
+    }
+
+    /**
+     * Libera o lock e fecha a sessão. Se o unlock falhar, a sessão é encerrada com
+     * {@code abort}, o que também libera o lock no banco.
+     */
+    private static void liberar(Connection connection) {
+        try (connection) {
+            try (PreparedStatement statement = connection.prepareStatement("select pg_advisory_unlock(?)")) {
+                statement.setLong(1, CHAVE);
+                statement.execute();
+            } catch (SQLException e) {
+                log.error("Falha ao liberar o lock de migrações; encerrando a sessão: {}", e.getMessage());
+                connection.abort(Runnable::run);
+            }
+        } catch (SQLException e) {
+            log.error("Falha ao encerrar a conexão do lock de migrações: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lock adquirido; {@link #close()} o libera.
+     */
+    @FunctionalInterface
+    public interface Bloqueio extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,134 @@
+package com.sgerest.domain.services;
+
+import org.flywaydb.core.api.MigrationInfo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.sgerest.controller.DTO.maintenance.MigrationJobResponse;
+import com.sgerest.controller.DTO.maintenance.MigrationProgressResponse;
+
+/**
+ * Estado de uma execução de migrações. Alterado só pela thread do job e lido
+ * pelas requisições de consulta, por isso todo acesso é sincronizado.
+ */
+class MigrationJob {
+
+    enum Status {
+        AGUARDANDO_LOCK, EXECUTANDO, CONCLUIDO, FALHOU, IGNORADO;
+
+        boolean ativo() {
+            return this == AGUARDANDO_LOCK || this == EXECUTANDO;
+        }
+    }
+
+    enum StatusMigracao {
+        PENDENTE, EXECUTANDO, CONCLUIDA, FALHOU
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final String instancia;
+    private final Instant criadoEm = Instant.now();
+    private final Map<String, Etapa> etapas = new LinkedHashMap<>();
+    private Status status = Status.AGUARDANDO_LOCK;
+    private Instant iniciadoEm;
+    private Instant finalizadoEm;
+    private int executadas;
+    private String mensagem;
+
+    MigrationJob(String instancia) {
+        this.instancia = instancia;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    synchronized boolean ativo() {
+        return status.ativo();
+    }
+
+    /**
+     * Lock adquirido: registra as migrações pendentes, na ordem em que o Flyway
+     * vai aplicá-las.
+     */
+    synchronized void iniciar(MigrationInfo[] pendentes) {
+        status = Status.EXECUTANDO;
+        iniciadoEm = Instant.now();
+        for (MigrationInfo info : pendentes) {
+            etapas.put(info.getScript(), new Etapa(info));
+        }
+    }
+
+    synchronized void iniciarMigracao(MigrationInfo info) {
+        Etapa etapa = etapas.computeIfAbsent(info.getScript(), script -> new Etapa(info));
+        etapa.status = StatusMigracao.EXECUTANDO;
+        etapa.iniciadaEm = Instant.now();
+    }
+
+    synchronized void finalizarMigracao(MigrationInfo info, boolean sucesso) {
+        Etapa etapa = etapas.get(info.getScript());
+        if (etapa != null && etapa.iniciadaEm != null) {
+            etapa.status = sucesso ? StatusMigracao.CONCLUIDA : StatusMigracao.FALHOU;
+            etapa.duracao = Duration.between(etapa.iniciadaEm, Instant.now());
+        }
+    }
+
+    synchronized void concluir(int executadas) {
+        this.executadas = executadas;
+        finalizar(Status.CONCLUIDO, "Migrações executadas com sucesso");
+    }
+
+    synchronized void falhar(String mensagem) {
+        for (Etapa etapa : etapas.values()) {
+            if (etapa.status == StatusMigracao.EXECUTANDO) {
+                etapa.status = StatusMigracao.FALHOU;
+                etapa.duracao = Duration.between(etapa.iniciadaEm, Instant.now());
+            }
+        }
+        executadas = (int) etapas.values().stream().filter(e -> e.status == StatusMigracao.CONCLUIDA).count();
+        finalizar(Status.FALHOU, mensagem);
+    }
+
+    synchronized void ignorar(String mensagem) {
+        finalizar(Status.IGNORADO, mensagem);
+    }
+
+    synchronized MigrationJobResponse toResponse() {
+        List<MigrationProgressResponse> migrations = new ArrayList<>(etapas.size());
+        for (Etapa etapa : etapas.values()) {
+            migrations.add(new MigrationProgressResponse(etapa.versao, etapa.descricao, etapa.status.name(),
+                    etapa.iniciadaEm, etapa.duracao != null ? etapa.duracao.toMillis() : null));
+        }
+        Instant fimEspera = iniciadoEm != null ? iniciadoEm : finalizadoEm != null ? finalizadoEm : Instant.now();
+        Long duracao = iniciadoEm == null ? null
+                : Duration.between(iniciadoEm, finalizadoEm != null ? finalizadoEm : Instant.now()).toMillis();
+        return new MigrationJobResponse(id, instancia, status.name(), mensagem, criadoEm, iniciadoEm, finalizadoEm,
+                Duration.between(criadoEm, fimEspera).toMillis(), duracao, executadas, etapas.size(), migrations);
+    }
+
+    private void finalizar(Status status, String mensagem) {
+        this.status = status;
+        this.mensagem = mensagem;
+        this.finalizadoEm = Instant.now();
+    }
+
+    private static final class Etapa {
+
+        private final String versao;
+        private final String descricao;
+        private StatusMigracao status = StatusMigracao.PENDENTE;
+        private Instant iniciadaEm;
+        private Duration duracao;
+
+        private Etapa(MigrationInfo info) {
+            this.versao = info.getVersion() != null ? info.getVersion().getVersion() : null;
+            this.descricao = info.getDescription();
+        }
+    }
+}
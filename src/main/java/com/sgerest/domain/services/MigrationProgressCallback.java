@@ -0,0 +1,52 @@
+package com.sgerest.domain.services;
+
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repassa ao job em andamento o início e o fim de cada migração aplicada pelo
+ * Flyway. Fora de um job (nenhum acompanhado) os eventos são ignorados.
+ */
+@Component
+public class MigrationProgressCallback implements Callback {
+
+    private volatile MigrationJob acompanhado;
+
+    void acompanhar(MigrationJob job) {
+        this.acompanhado = job;
+    }
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_EACH_MIGRATE
+                || event == Event.AFTER_EACH_MIGRATE
+                || event == Event.AFTER_EACH_MIGRATE_ERROR;
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        MigrationJob job = acompanhado;
+        if (job == null || context.getMigrationInfo() == null) {
+            return;
+        }
+        switch (event) {
+            case BEFORE_EACH_MIGRATE -> job.iniciarMigracao(context.getMigrationInfo());
+            case AFTER_EACH_MIGRATE -> job.finalizarMigracao(context.getMigrationInfo(), true);
+            case AFTER_EACH_MIGRATE_ERROR -> job.finalizarMigracao(context.getMigrationInfo(), false);
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "sge-migration-progress";
+    }
+}
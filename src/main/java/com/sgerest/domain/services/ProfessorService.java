@@ -0,0 +1,168 @@
+package com.sgerest.domain.services;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.professor.ProfessorDTORequest;
+import com.sgerest.controller.DTO.professor.ProfessorDTOResponse;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.domain.entities.ProfessorEntity;
+import com.sgerest.domain.repository.ProfessorRepository;
+import com.sgerest.domain.repository.TituloRepository;
+import com.sgerest.exception.ArgumentNotFoundException;
+
+@Service
+@Timed(value = "sge.professor.service", description = "Tempo de execução dos métodos do ProfessorService")
+@Log4j2
+public class ProfessorService {
+
+    private final ProfessorRepository professorRepository;
+    private final TituloRepository tituloRepository;
+    private final TituloService tituloService;
+
+    public ProfessorService(ProfessorRepository professorRepository, TituloRepository tituloRepository,
+            TituloService tituloService) {
+        this.professorRepository = professorRepository;
+        this.tituloRepository = tituloRepository;
+        this.tituloService = tituloService;
+    }
+
+    /**
+     * O título é validado pelo cache de títulos e associado por referência, sem
+     * SELECT; a resposta é montada com a descrição já obtida.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ProfessorDTOResponse cadastrar(ProfessorDTORequest request) {
+        log.info("Cadastrando professor: {}", request.nome());
+        TituloDTOResponse titulo = tituloService.getById(request.tituloId());
+
+        ProfessorEntity professor = new ProfessorEntity();
+        aplicar(professor, request);
+        professor = professorRepository.save(professor);
+
+        log.info("Professor cadastrado com sucesso. ID: {}", professor.getId());
+        return mapToDTO(professor, titulo);
+    }
+
+    @Transactional(readOnly = true)
+    public ProfessorDTOResponse getById(Long id) {
+        log.info("Buscando professor com ID: {}", id);
+        return professorRepository.findDTOById(id)
+                .orElseThrow(() -> {
+                    log.warn("Professor com ID {} não encontrado.", id);
+                    return new ArgumentNotFoundException("Professor com ID " + id + " não encontrado.");
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ProfessorDTOResponse> listarTodos(Pageable pageable, Long tituloId) {
+        log.info("Listando professores com paginação: {} (título: {})", pageable, tituloId);
+        Page<ProfessorDTOResponse> page = tituloId == null
+                ? professorRepository.findAllDTO(pageable)
+                : professorRepository.findAllDTOByTituloId(tituloId, pageable);
+        log.info("Total de professores encontrados: {}", page.getTotalElements());
+        return PageResponse.of(page);
+    }
+
+    /**
+     * Busca professores pelo nome contendo o termo, dos mais parecidos para os
+     * menos parecidos, com o título no mesmo SELECT.
+     */
+    @Transactional(readOnly = true)
+    public List<ProfessorDTOResponse> buscar(String termo, int limite) {
+        String normalizado = BuscaTextual.normalizarTermo(termo);
+        BuscaTextual.validarLimite(limite);
+        log.info("Buscando professores por nome: '{}' (limite: {})", normalizado, limite);
+        List<ProfessorDTOResponse> professores = professorRepository.searchByNome(normalizado, limite);
+        log.info("Professores encontrados na busca: {}", professores.size());
+        return professores;
+    }
+
+    /**
+     * Entrega todos os professores a {@code destino} conforme são lidos do cursor
+     * do banco; ver {@link TituloService#exportar}.
+     */
+    @Transactional(readOnly = true)
+    public long exportar(Consumer<? super ProfessorDTOResponse> destino) {
+        log.info("Exportando professores");
+        long total = 0;
+        try (Stream<ProfessorDTOResponse> professores = professorRepository.streamAllParaExportacao()) {
+            for (ProfessorDTOResponse professor : (Iterable<ProfessorDTOResponse>) professores::iterator) {
+                destino.accept(professor);
+                total++;
+            }
+        }
+        log.info("Exportação de professores concluída: {} linhas", total);
+        return total;
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public ProfessorDTOResponse atualizar(Long id, ProfessorDTORequest request) {
+        log.info("Atualizando professor com ID: {}", id);
+        ProfessorEntity professor = professorRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Professor com ID {} não encontrado para atualização.", id);
+                    return new ArgumentNotFoundException("Professor com ID " + id + " não encontrado.");
+                });
+        TituloDTOResponse titulo = tituloService.getById(request.tituloId());
+
+        aplicar(professor, request);
+        professorRepository.flush();
+
+        log.info("Professor com ID {} atualizado com sucesso.", id);
+        return mapToDTO(professor, titulo);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public void deletar(Long id) {
+        log.info("Deletando professor com ID: {}", id);
+        ProfessorEntity professor = professorRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Professor com ID {} não encontrado para deleção.", id);
+                    return new ArgumentNotFoundException("Professor com ID " + id + " não encontrado.");
+                });
+
+        professorRepository.delete(professor);
+        log.info("Professor com ID {} deletado com sucesso.", id);
+    }
+
+    private void aplicar(ProfessorEntity professor, ProfessorDTORequest request) {
+        professor.setTitulo(tituloRepository.getReferenceById(request.tituloId()));
+        professor.setNome(request.nome().trim());
+        professor.setSexo(request.sexo());
+        professor.setEstadoCivil(request.estadoCivil());
+        professor.setDataNascimento(request.dataNascimento());
+        professor.setTelefone(request.telefone().trim());
+        if (request.dataContratacao() != null) {
+            professor.setDataContratacao(request.dataContratacao());
+        }
+        if (request.ativo() != null) {
+            professor.setAtivo(request.ativo());
+        }
+    }
+
+    private ProfessorDTOResponse mapToDTO(ProfessorEntity professor, TituloDTOResponse titulo) {
+        return new ProfessorDTOResponse(
+                professor.getId(),
+                professor.getNome(),
+                professor.getSexo(),
+                professor.getEstadoCivil(),
+                professor.getDataNascimento(),
+                professor.getTelefone(),
+                professor.getDataContratacao(),
+                Boolean.TRUE.equals(professor.getAtivo()),
+                titulo.id(),
+                titulo.descricao());
+    }
+}
@@ -2,100 +2,447 @@ package com.sgerest.domain.services;
 
 import lombok.extern.log4j.Log4j2;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import io.micrometer.core.annotation.Timed;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.sgerest.config.ReplicaRoutingDataSource;
+import com.sgerest.controller.DTO.CursorPageResponse;
 import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.titulo.TituloBatchItemResponse;
+import com.sgerest.controller.DTO.titulo.TituloBatchResponse;
+import com.sgerest.controller.DTO.titulo.TituloBulkDeleteResponse;
+import com.sgerest.controller.DTO.titulo.TituloCursor;
 import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.controller.DTO.titulo.TituloSugestaoResponse;
+import com.sgerest.domain.cache.TituloCache;
+import com.sgerest.domain.cache.TituloDescricaoIndex;
+import com.sgerest.domain.cache.TituloSugestaoIndex;
 import com.sgerest.domain.entities.TituloEntity;
+import com.sgerest.domain.repository.TituloBulkDeleteResult;
 import com.sgerest.domain.repository.TituloRepository;
 import com.sgerest.exception.TituloAlreadyExistsException;
 import com.sgerest.exception.ArgumentNotFoundException;
+import com.sgerest.exception.PreconditionFailedException;
 
 @Service
+@Timed(value = "sge.titulo.service", description = "Tempo de execução dos métodos do TituloService")
 @Log4j2
 public class TituloService {
 
+    public static final int TAMANHO_MAXIMO_LOTE = 5000;
+
+    public static final int TAMANHO_MAXIMO_PAGINA_CURSOR = 1000;
+
+    public static final int LIMITE_MAXIMO_SUGESTOES = 50;
+
+    private static final int TAMANHO_MAXIMO_DESCRICAO = 150;
+
     private final TituloRepository tituloRepository;
 
-    public TituloService(TituloRepository tituloRepository) {
+    private final TituloTotalEstimator tituloTotalEstimator;
+
+    private final TituloCache tituloCache;
+
+    private final TituloDescricaoIndex tituloDescricaoIndex;
+
+    private final TituloSugestaoIndex tituloSugestaoIndex;
+
+    private final TransactionOperations transacoes;
+
+    private final ObjectProvider<ReplicaRoutingDataSource> roteamentoLeituras;
+
+    public TituloService(TituloRepository tituloRepository, TituloTotalEstimator tituloTotalEstimator,
+            TituloCache tituloCache, TituloDescricaoIndex tituloDescricaoIndex,
+            TituloSugestaoIndex tituloSugestaoIndex, TransactionOperations transacoes,
+            ObjectProvider<ReplicaRoutingDataSource> roteamentoLeituras) {
         this.tituloRepository = tituloRepository;
+        this.tituloTotalEstimator = tituloTotalEstimator;
+        this.tituloCache = tituloCache;
+        this.tituloDescricaoIndex = tituloDescricaoIndex;
+        this.tituloSugestaoIndex = tituloSugestaoIndex;
+        this.transacoes = transacoes;
+        this.roteamentoLeituras = roteamentoLeituras;
     }
 
+    /**
+     * Cadastra um título com um único comando no banco: a verificação de
+     * duplicidade é feita pelo próprio INSERT (ON CONFLICT DO NOTHING) contra o
+     * índice único de {@code lower(tx_descricao)}.
+     */
     @Transactional(rollbackFor = Exception.class)
     public TituloDTOResponse cadastrar(String descricao) {
         log.info("Cadastrando título com descrição: {}", descricao);
 
-        descricao = descricao.trim();
+        String descricaoNormalizada = descricao.trim();
 
-        if (tituloRepository.existsByDescricaoIgnoreCase(descricao)) {
-            log.warn("Título com descrição '{}' já existe.", descricao);
-            throw new TituloAlreadyExistsException(descricao);
+        Long id = tituloRepository.insertIfAbsent(descricaoNormalizada)
+                .orElseThrow(() -> {
+                    log.warn("Título com descrição '{}' já existe.", descricaoNormalizada);
+                    return new TituloAlreadyExistsException(descricaoNormalizada);
+                });
+
+        TituloDTOResponse response = new TituloDTOResponse(id, descricaoNormalizada, 0L);
+        tituloCache.put(response);
+        tituloDescricaoIndex.adicionar(descricaoNormalizada);
+        tituloSugestaoIndex.registrar(response);
+        log.info("Título cadastrado com sucesso. ID: {}", response.id());
+        return response;
+    }
+
+    /**
+     * Cadastra um lote de títulos em uma única transação.
+     * A verificação de duplicidade é feita com uma única consulta para todo o lote,
+     * restrita às descrições que o {@link TituloDescricaoIndex} não descarta, e os
+     * inserts são agrupados em JDBC batch (IDs gerados por sequence pooled).
+     * Itens inválidos ou duplicados são reportados individualmente sem abortar o lote.
+     *
+     * <p>
+     * Um título gravado por outra transação entre a consulta e o flush viola o índice
+     * único e desfaz a transação do lote. Nesse caso os itens são gravados de novo,
+     * um a um, em outra transação com {@link TituloRepository#insertIfAbsent}, que
+     * reporta o duplicado sem falhar.
+     */
+    public TituloBatchResponse cadastrarEmLote(List<String> descricoes) {
+        log.info("Cadastrando lote de {} títulos", descricoes.size());
+
+        if (descricoes.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new IllegalArgumentException(
+                    "O lote deve conter no máximo " + TAMANHO_MAXIMO_LOTE + " títulos.");
         }
 
-        TituloEntity titulo = new TituloEntity();
-        titulo.setDescricao(descricao);
+        TituloBatchItemResponse[] resultados = new TituloBatchItemResponse[descricoes.size()];
+        List<Integer> candidatos = new ArrayList<>();
+        Set<String> chavesDoLote = new HashSet<>();
 
-        TituloEntity tituloPersistido = tituloRepository.save(titulo);
+        for (int i = 0; i < descricoes.size(); i++) {
+            String descricao = descricoes.get(i) == null ? null : descricoes.get(i).trim();
+            if (descricao == null || descricao.isEmpty()) {
+                resultados[i] = TituloBatchItemResponse.rejeitado(i, descricao,
+                        TituloBatchItemResponse.Status.INVALIDO, "Descrição é obrigatória.");
+            } else if (descricao.length() > TAMANHO_MAXIMO_DESCRICAO) {
+                resultados[i] = TituloBatchItemResponse.rejeitado(i, descricao,
+                        TituloBatchItemResponse.Status.INVALIDO,
+                        "Descrição deve ter no máximo " + TAMANHO_MAXIMO_DESCRICAO + " caracteres.");
+            } else if (!chavesDoLote.add(TituloDescricaoIndex.normalizar(descricao))) {
+                resultados[i] = TituloBatchItemResponse.rejeitado(i, descricao,
+                        TituloBatchItemResponse.Status.DUPLICADO, "Descrição repetida no lote.");
+            } else {
+                candidatos.add(i);
+            }
+        }
 
-        TituloDTOResponse response = mapToDTO(tituloPersistido);
-        log.info("Título cadastrado com sucesso. ID: {}", response.id());
+        try {
+            transacoes.executeWithoutResult(status -> inserirLote(descricoes, candidatos, chavesDoLote, resultados));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Lote conflitou com título gravado em paralelo; gravando item a item: {}",
+                    e.getMostSpecificCause().getMessage());
+            transacoes.executeWithoutResult(status -> inserirItemAItem(descricoes, candidatos, resultados));
+        }
+
+        TituloBatchResponse response = TituloBatchResponse.of(List.of(resultados));
+        log.info("Lote processado. Criados: {}, rejeitados: {}", response.criados(), response.rejeitados());
         return response;
     }
 
-    @Transactional(readOnly = true)
+    private void inserirLote(List<String> descricoes, List<Integer> candidatos, Set<String> chavesDoLote,
+            TituloBatchItemResponse[] resultados) {
+        Set<String> suspeitas = new HashSet<>();
+        for (String chave : chavesDoLote) {
+            if (tituloDescricaoIndex.podeConter(chave)) {
+                suspeitas.add(chave);
+            }
+        }
+        Set<String> existentes = suspeitas.isEmpty()
+                ? Set.of()
+                : new HashSet<>(tituloRepository.findDescricoesExistentes(suspeitas));
+
+        List<TituloEntity> novos = new ArrayList<>(candidatos.size());
+        List<Integer> indicesNovos = new ArrayList<>(candidatos.size());
+        for (int i : candidatos) {
+            String descricao = descricoes.get(i).trim();
+            if (existentes.contains(TituloDescricaoIndex.normalizar(descricao))) {
+                resultados[i] = TituloBatchItemResponse.rejeitado(i, descricao,
+                        TituloBatchItemResponse.Status.DUPLICADO,
+                        "Título com descrição '" + descricao + "' já existe.");
+                continue;
+            }
+            TituloEntity titulo = new TituloEntity();
+            titulo.setDescricao(descricao);
+            novos.add(titulo);
+            indicesNovos.add(i);
+        }
+
+        List<TituloEntity> persistidos = tituloRepository.saveAllAndFlush(novos);
+        for (int j = 0; j < persistidos.size(); j++) {
+            TituloEntity titulo = persistidos.get(j);
+            int indice = indicesNovos.get(j);
+            resultados[indice] = TituloBatchItemResponse.criado(indice, titulo.getDescricao(), titulo.getId());
+            TituloDTOResponse criado = mapToDTO(titulo);
+            tituloCache.put(criado);
+            tituloDescricaoIndex.adicionar(titulo.getDescricao());
+            tituloSugestaoIndex.registrar(criado);
+        }
+    }
+
+    private void inserirItemAItem(List<String> descricoes, List<Integer> candidatos,
+            TituloBatchItemResponse[] resultados) {
+        for (int i : candidatos) {
+            String descricao = descricoes.get(i).trim();
+            Optional<Long> id = tituloRepository.insertIfAbsent(descricao);
+            if (id.isEmpty()) {
+                resultados[i] = TituloBatchItemResponse.rejeitado(i, descricao,
+                        TituloBatchItemResponse.Status.DUPLICADO,
+                        "Título com descrição '" + descricao + "' já existe.");
+                continue;
+            }
+            resultados[i] = TituloBatchItemResponse.criado(i, descricao, id.get());
+            TituloDTOResponse criado = new TituloDTOResponse(id.get(), descricao, 0L);
+            tituloCache.put(criado);
+            tituloDescricaoIndex.adicionar(descricao);
+            tituloSugestaoIndex.registrar(criado);
+        }
+    }
+
+    /**
+     * Busca um título passando pelo {@link TituloCache}. Não abre transação própria:
+     * um acerto no cache não precisa de conexão, e uma falta é uma única consulta
+     * que projeta direto no DTO, sem entidade gerenciada. O que vem de uma réplica
+     * é devolvido sem entrar no cache.
+     */
     public TituloDTOResponse getById(Long id) {
         log.info("Buscando título com ID: {}", id);
-        TituloEntity titulo = tituloRepository.findById(id)
+        TituloDTOResponse response = lerInformandoReplica(daReplica -> daReplica
+                ? tituloCache.getIfPresent(id).orElseGet(() -> buscarDTO(id))
+                : tituloCache.get(id, this::buscarDTO));
+
+        log.info("Título encontrado: {}", response);
+        return response;
+
+    }
+
+    private TituloDTOResponse buscarDTO(Long id) {
+        return tituloRepository.findDTOById(id)
                 .orElseThrow(() -> {
                     log.warn("Título com ID {} não encontrado.", id);
                     return new ArgumentNotFoundException("Título com ID " + id + " não encontrado.");
                 });
+    }
 
-        TituloDTOResponse response = mapToDTO(titulo);
-        log.info("Título encontrado: {}", response);
-        return response;
+    /**
+     * Sugestões de títulos por prefixo da descrição para autocompletar, servidas
+     * pelo {@link TituloSugestaoIndex} sem consultar o banco.
+     */
+    public List<TituloSugestaoResponse> sugerir(String prefixo, int limite) {
+        if (prefixo == null || prefixo.isBlank()) {
+            throw new IllegalArgumentException("O prefixo é obrigatório.");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO_SUGESTOES) {
+            throw new IllegalArgumentException(
+                    "O limite deve estar entre 1 e " + LIMITE_MAXIMO_SUGESTOES + ".");
+        }
+        return tituloSugestaoIndex.sugerir(prefixo, limite);
+    }
 
+    /**
+     * Versão atual do título, para validação de ETag sem carregar a entidade:
+     * vem do {@link TituloCache} quando possível e, do contrário, de uma consulta
+     * apenas da coluna de versão. Uma versão atrasada lida de réplica no máximo
+     * custa um 200 no lugar de um 304 ou um 412 que o UPDATE versionado daria de
+     * qualquer forma.
+     */
+    public long getVersao(Long id) {
+        return tituloCache.getIfPresent(id)
+                .map(TituloDTOResponse::versao)
+                .or(() -> tituloRepository.findVersaoById(id))
+                .orElseThrow(() -> {
+                    log.warn("Título com ID {} não encontrado.", id);
+                    return new ArgumentNotFoundException("Título com ID " + id + " não encontrado.");
+                });
     }
 
     @Transactional(readOnly = true)
     public PageResponse<TituloDTOResponse> listarTodos(Pageable pageable) {
-        log.info("Listando todos os títulos com paginação: {}", pageable);
-        Page<TituloEntity> titulosPage = tituloRepository.findAll(pageable);
+        return listarTodos(pageable, PageResponse.TotalType.EXACT);
+    }
 
-        Page<TituloDTOResponse> responsePage = titulosPage.map(this::mapToDTO);
+    /**
+     * Lista títulos com o tipo de total solicitado. NONE e ESTIMATED usam uma
+     * {@link Slice} (size + 1 linhas) e dispensam o COUNT(*) da página. As páginas
+     * lidas do primário passam pelo cache de consultas; as lidas de uma réplica
+     * ficam fora dele.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<TituloDTOResponse> listarTodos(Pageable pageable, PageResponse.TotalType totalType) {
+        log.info("Listando todos os títulos com paginação: {} (total: {})", pageable, totalType);
+        if (totalType == PageResponse.TotalType.EXACT) {
+            Page<TituloDTOResponse> responsePage = lerComCacheDeConsultas(() -> tituloRepository.findAllDTO(pageable));
 
-        log.info("Total de títulos encontrados: {}", responsePage.getTotalElements());
-        return PageResponse.of(responsePage);
+            log.info("Total de títulos encontrados: {}", responsePage.getTotalElements());
+            return PageResponse.of(responsePage);
+        }
+
+        Slice<TituloDTOResponse> slice = lerComCacheDeConsultas(() -> tituloRepository.findAllDTOBy(pageable));
+        if (totalType == PageResponse.TotalType.ESTIMATED) {
+            return PageResponse.of(slice, tituloTotalEstimator.estimarTotal());
+        }
+        return PageResponse.of(slice);
+    }
+
+    /**
+     * Lista títulos por cursor (keyset): em vez de OFFSET, a consulta busca as linhas
+     * posteriores à chave da última linha entregue, com custo constante por página.
+     * Só a primeira página usa o cache de consultas, nas mesmas condições de
+     * {@link #listarTodos(Pageable, PageResponse.TotalType)}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TituloDTOResponse> listarPorCursor(String after, int size, String sort) {
+        log.info("Listando títulos por cursor. after: {}, size: {}, sort: {}", after, size, sort);
+        if (size < 1 || size > TAMANHO_MAXIMO_PAGINA_CURSOR) {
+            throw new IllegalArgumentException(
+                    "O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA_CURSOR + ".");
+        }
+
+        TituloCursor.Ordenacao ordenacao = TituloCursor.Ordenacao.from(sort);
+        TituloCursor cursor = after == null || after.isBlank() ? null : TituloCursor.decode(after, ordenacao);
+        Limit limit = Limit.of(size + 1);
+
+        List<TituloDTOResponse> rows;
+        if (ordenacao == TituloCursor.Ordenacao.ID) {
+            rows = cursor == null
+                    ? lerComCacheDeConsultas(() -> tituloRepository.findAllOrderById(limit))
+                    : tituloRepository.findAfterId(cursor.id(), limit);
+        } else {
+            rows = cursor == null
+                    ? lerComCacheDeConsultas(() -> tituloRepository.findAllOrderByDescricao(limit))
+                    : tituloRepository.findAfterDescricao(cursor.descricao(), cursor.id(), limit);
+        }
+
+        return CursorPageResponse.of(rows, size, ultimo -> TituloCursor.after(ordenacao, ultimo).encode());
+    }
+
+    /**
+     * Busca títulos pela descrição contendo o termo, dos mais parecidos para os
+     * menos parecidos. Não conta o total de correspondências, cujo custo cresce
+     * com a tabela; devolve no máximo {@code limite} títulos.
+     */
+    @Transactional(readOnly = true)
+    public List<TituloDTOResponse> buscar(String termo, int limite) {
+        String normalizado = BuscaTextual.normalizarTermo(termo);
+        BuscaTextual.validarLimite(limite);
+        log.info("Buscando títulos por descrição: '{}' (limite: {})", normalizado, limite);
+        List<TituloDTOResponse> titulos = tituloRepository.searchByDescricao(normalizado, limite);
+        log.info("Títulos encontrados na busca: {}", titulos.size());
+        return titulos;
+    }
+
+    /**
+     * Entrega todos os títulos a {@code destino}, um a um, conforme são lidos do
+     * cursor do banco. A transação (e a conexão) fica aberta até o fim da leitura.
+     *
+     * @return quantidade de títulos exportados
+     */
+    @Transactional(readOnly = true)
+    public long exportar(Consumer<? super TituloDTOResponse> destino) {
+        log.info("Exportando títulos");
+        long total = 0;
+        try (Stream<TituloDTOResponse> titulos = tituloRepository.streamAllParaExportacao()) {
+            for (TituloDTOResponse titulo : (Iterable<TituloDTOResponse>) titulos::iterator) {
+                destino.accept(titulo);
+                total++;
+            }
+        }
+        log.info("Exportação de títulos concluída: {} linhas", total);
+        return total;
     }
 
     @Transactional(rollbackFor = Exception.class)
     public TituloDTOResponse atualizar(Long id, String descricao) {
-        log.info("Atualizando título com ID: {}", id);
-        TituloEntity titulo = tituloRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Título com ID {} não encontrado para atualização.", id);
-                    return new ArgumentNotFoundException("Título com ID " + id + " não encontrado.");
-                });
+        return atualizar(id, descricao, null);
+    }
+
+    /**
+     * Atualiza a descrição com um único UPDATE, condicionado à versão esperada
+     * quando informada (If-Match). A unicidade é garantida pelo índice único do
+     * banco; a violação é convertida em {@link TituloAlreadyExistsException}.
+     * Só quando nenhuma linha é afetada uma consulta da versão distingue 404 de 412.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public TituloDTOResponse atualizar(Long id, String descricao, Long versaoEsperada) {
+        log.info("Atualizando título com ID: {} (versão esperada: {})", id, versaoEsperada);
 
-        descricao = descricao.trim();
+        String descricaoNormalizada = descricao.trim();
 
-        if (tituloRepository.existsByDescricaoIgnoreCase(descricao) &&
-                !titulo.getDescricao().equalsIgnoreCase(descricao)) {
-            log.warn("Título com descrição '{}' já existe.", descricao);
-            throw new TituloAlreadyExistsException(descricao);
+        Optional<TituloDTOResponse> atualizado;
+        try {
+            atualizado = tituloRepository.updateDescricao(id, descricaoNormalizada, versaoEsperada);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Título com descrição '{}' já existe.", descricaoNormalizada);
+            throw new TituloAlreadyExistsException(descricaoNormalizada);
         }
 
-        titulo.setDescricao(descricao);
-        TituloEntity tituloAtualizado = tituloRepository.save(titulo);
-
-        TituloDTOResponse response = mapToDTO(tituloAtualizado);
+        TituloDTOResponse response = atualizado.orElseThrow(() -> {
+            if (versaoEsperada != null && tituloRepository.findVersaoById(id).isPresent()) {
+                log.warn("Título com ID {} foi alterado por outra requisição.", id);
+                return new PreconditionFailedException(
+                        "Título com ID " + id + " foi alterado desde a versão " + versaoEsperada + ".");
+            }
+            log.warn("Título com ID {} não encontrado para atualização.", id);
+            return new ArgumentNotFoundException("Título com ID " + id + " não encontrado.");
+        });
+        tituloCache.evict(id);
+        tituloDescricaoIndex.adicionar(descricaoNormalizada);
+        tituloSugestaoIndex.registrar(response);
         log.info("Título atualizado com sucesso. ID: {}", response.id());
         return response;
     }
 
+    /**
+     * Atualização com {@code If-Match}: só aplica se a versão atual estiver entre as
+     * aceitas ({@code null} aceita qualquer uma). Com uma única versão o UPDATE
+     * condicional resolve sozinho; com várias, a versão atual é lida e usada como a
+     * esperada, e uma alteração concorrente ainda resulta em 412.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public TituloDTOResponse atualizarCondicional(Long id, String descricao, Set<Long> versoesAceitas) {
+        if (versoesAceitas == null) {
+            return atualizar(id, descricao, null);
+        }
+        if (versoesAceitas.size() == 1) {
+            return atualizar(id, descricao, versoesAceitas.iterator().next());
+        }
+        Long atual = tituloRepository.findVersaoById(id).orElseThrow(() -> {
+            log.warn("Título com ID {} não encontrado para atualização.", id);
+            return new ArgumentNotFoundException("Título com ID " + id + " não encontrado.");
+        });
+        if (!versoesAceitas.contains(atual)) {
+            log.warn("Título com ID {} está na versão {}, fora de {}.", id, atual, versoesAceitas);
+            throw new PreconditionFailedException(
+                    "Título com ID " + id + " não está em nenhuma das versões " + versoesAceitas + ".");
+        }
+        return atualizar(id, descricao, atual);
+    }
+
     @Transactional(rollbackFor = Exception.class)
     public void deletar(Long id) {
         log.info("Deletando título com ID: {}", id);
@@ -106,11 +453,68 @@ public class TituloService {
                 });
 
         tituloRepository.delete(titulo);
+        tituloCache.evict(id);
+        tituloDescricaoIndex.remover(titulo.getDescricao());
+        tituloSugestaoIndex.remover(id);
         log.info("Título com ID {} deletado com sucesso.", id);
     }
 
-    private TituloDTOResponse mapToDTO(TituloEntity titulo) {
-        return new TituloDTOResponse(titulo.getId(), titulo.getDescricao());
+    /**
+     * Remove vários títulos com um único DELETE baseado em conjunto e informa os
+     * IDs não encontrados e os professores removidos em cascata.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public TituloBulkDeleteResponse deletarEmLote(Collection<Long> ids) {
+        Set<Long> solicitados = new LinkedHashSet<>(ids);
+        log.info("Deletando lote de {} títulos", solicitados.size());
+        if (solicitados.isEmpty() || solicitados.contains(null)) {
+            throw new IllegalArgumentException("Informe ao menos um ID válido.");
+        }
+        if (solicitados.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new IllegalArgumentException(
+                    "O lote deve conter no máximo " + TAMANHO_MAXIMO_LOTE + " títulos.");
+        }
+
+        TituloBulkDeleteResult resultado = tituloRepository.deleteAllByIdIn(solicitados);
+
+        List<Long> removidos = new ArrayList<>(resultado.removidos().size());
+        for (TituloDTOResponse titulo : resultado.removidos()) {
+            removidos.add(titulo.id());
+            tituloDescricaoIndex.remover(titulo.descricao());
+            tituloSugestaoIndex.remover(titulo.id());
+        }
+        tituloCache.evictAll(removidos);
+
+        Set<Long> removidosSet = new HashSet<>(removidos);
+        List<Long> naoEncontrados = solicitados.stream()
+                .filter(id -> !removidosSet.contains(id))
+                .toList();
+
+        log.info("Lote deletado. Removidos: {}, não encontrados: {}, professores em cascata: {}",
+                removidos.size(), naoEncontrados.size(), resultado.professoresRemovidos());
+        return new TituloBulkDeleteResponse(solicitados.size(), removidos, naoEncontrados,
+                resultado.professoresRemovidos());
+    }
+
+    static TituloDTOResponse mapToDTO(TituloEntity titulo) {
+        return new TituloDTOResponse(titulo.getId(), titulo.getDescricao(), titulo.getVersao());
     }
 
+    /**
+     * Executa a leitura já sabendo se ela vai a uma réplica; sem réplicas
+     * configuradas, sempre no primário.
+     */
+    private <T> T lerInformandoReplica(Function<Boolean, T> leitura) {
+        ReplicaRoutingDataSource roteamento = roteamentoLeituras.getIfAvailable();
+        return roteamento != null ? roteamento.lerComDestinoFixado(leitura) : leitura.apply(false);
+    }
+
+    private <T> T lerComCacheDeConsultas(Supplier<T> consulta) {
+        return lerInformandoReplica(daReplica -> {
+            if (daReplica) {
+                tituloRepository.ignorarCacheDeSegundoNivel();
+            }
+            return consulta.get();
+        });
+    }
 }
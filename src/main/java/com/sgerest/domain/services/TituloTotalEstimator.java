@@ -0,0 +1,52 @@
+package com.sgerest.domain.services;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import com.sgerest.domain.repository.TituloRepository;
+
+/**
+ * Fornece o total aproximado de títulos sem um COUNT(*) por requisição.
+ * Usa as estatísticas do planejador do PostgreSQL quando disponíveis e, caso
+ * contrário, uma contagem exata mantida em cache por um TTL curto.
+ */
+@Component
+@Log4j2
+public class TituloTotalEstimator {
+
+    private final TituloRepository tituloRepository;
+
+    private final long ttlNanos;
+
+    private volatile CachedCount cachedCount;
+
+    public TituloTotalEstimator(TituloRepository tituloRepository,
+            @Value("${sge.titulos.total-estimado.ttl:30s}") Duration ttl) {
+        this.tituloRepository = tituloRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public long estimarTotal() {
+        OptionalLong estimativa = tituloRepository.estimateCount();
+        if (estimativa.isPresent()) {
+            return estimativa.getAsLong();
+        }
+
+        CachedCount atual = cachedCount;
+        long agora = System.nanoTime();
+        if (atual == null || agora - atual.lidoEm() > ttlNanos) {
+            atual = new CachedCount(tituloRepository.count(), agora);
+            cachedCount = atual;
+            log.debug("Contagem de títulos em cache atualizada: {}", atual.total());
+        }
+        return atual.total();
+    }
+
+    private record CachedCount(long total, long lidoEm) {
+    }
+}
@@ -12,7 +12,8 @@ public record ApiErrorResponse(
 
 	public ApiErrorResponse(int status, String error, String message, String path) {
 		this(
-				LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME),
+				// formatador compartilhado: sempre imprime os segundos, ao contrário de toString()
+				DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()),
 				status,
 				error,
 				message,
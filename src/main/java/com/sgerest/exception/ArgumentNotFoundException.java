@@ -1,6 +1,6 @@
 package com.sgerest.exception;
 
-public class ArgumentNotFoundException extends RuntimeException {
+public class ArgumentNotFoundException extends DomainException {
     public ArgumentNotFoundException(String message) {
         super(message);
     }
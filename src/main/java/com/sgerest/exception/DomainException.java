@@ -0,0 +1,19 @@
+package com.sgerest.exception;
+
+/**
+ * Base das exceções de domínio que representam respostas 4xx/503 esperadas
+ * (não encontrado, conflito, pré-condição, sobrecarga).
+ *
+ * <p>
+ * Essas exceções são fluxo normal da API e não carregam stack trace: capturá-lo
+ * custa mais que o resto da resposta de erro. Para depuração, a captura pode ser
+ * religada com {@code -Dsge.errors.stack-traces=true}.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private static final boolean CAPTURAR_STACK_TRACE = Boolean.getBoolean("sge.errors.stack-traces");
+
+    protected DomainException(String message) {
+        super(message, null, false, CAPTURAR_STACK_TRACE);
+    }
+}
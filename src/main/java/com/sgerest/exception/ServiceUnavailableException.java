@@ -0,0 +1,7 @@
+package com.sgerest.exception;
+
+public class ServiceUnavailableException extends DomainException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.sgerest.exception;
 
-public class TituloAlreadyExistsException extends RuntimeException {
+public class TituloAlreadyExistsException extends DomainException {
 
     public TituloAlreadyExistsException(String descricao) {
         super("Título com descrição '" + descricao + "' já existe.");
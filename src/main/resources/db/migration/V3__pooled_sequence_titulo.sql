@@ -0,0 +1,4 @@
+-- O Hibernate usa o otimizador "pooled" (allocationSize = 50) para gerar os IDs
+-- de titulo, o que permite inserts em lote via JDBC batch. O incremento da
+-- sequence precisa acompanhar o allocationSize da entidade.
+ALTER SEQUENCE titulo_id_titulo_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- Garante no banco a mesma regra de unicidade aplicada pelo serviço:
+-- descrições iguais ignorando maiúsculas/minúsculas são duplicadas.
+-- Também é o alvo do INSERT ... ON CONFLICT DO NOTHING do cadastro.
+CREATE UNIQUE INDEX uk_titulo_descricao_lower ON titulo (lower(tx_descricao));
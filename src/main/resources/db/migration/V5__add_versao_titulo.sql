@@ -0,0 +1,3 @@
+-- Versão otimista do título (@Version em TituloEntity). Usada para gerar ETags
+-- e, nas atualizações condicionais, para detectar escritas concorrentes.
+ALTER TABLE titulo ADD COLUMN nr_versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- ProfessorEntity usa o mesmo otimizador "pooled" de titulo (allocationSize = 50):
+-- o Hibernate reserva 50 IDs por nextval e os distribui em memória, o que deixa
+-- os cadastros de professor entrarem em JDBC batch. O incremento da sequence
+-- precisa acompanhar o allocationSize da entidade.
+ALTER SEQUENCE professor_id_professor_seq INCREMENT BY 50;
@@ -0,0 +1,9 @@
+-- Índices GiST de trigramas para busca por substring (ILIKE '%termo%'). Diferente
+-- do GIN, o GiST também atende ORDER BY coluna <-> termo: o índice entrega as
+-- linhas já em ordem de distância e a consulta para no LIMIT, sem pontuar todas
+-- as correspondências.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_professor_nome_trgm ON professor USING gist (tx_nome gist_trgm_ops);
+
+CREATE INDEX idx_titulo_descricao_trgm ON titulo USING gist (tx_descricao gist_trgm_ops);
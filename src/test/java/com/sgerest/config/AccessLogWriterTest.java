@@ -0,0 +1,42 @@
+package com.sgerest.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes do AccessLogWriter")
+class AccessLogWriterTest {
+
+    private final AccessLogWriter writer = new AccessLogWriter(0.0, 2);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve descartar sucessos com amostragem zero e sempre registrar erros")
+    void testAmostragem() {
+        assertFalse(writer.amostrar(200, false));
+        assertTrue(writer.amostrar(404, false));
+        assertTrue(writer.amostrar(500, false));
+        assertTrue(writer.amostrar(200, true));
+        assertEquals(1, writer.getDescartados());
+    }
+
+    @Test
+    @DisplayName("Deve escrever os eventos de forma assíncrona sem perder erros com o pool esgotado")
+    void testRegistraAssincrono() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            writer.registrar("127.0.0.1", "GET", "/v1/titulos/" + i, 500, 1_500_000, "falha");
+        }
+
+        long limite = System.nanoTime() + 5_000_000_000L;
+        while (writer.getRegistrados() < 10 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(10, writer.getRegistrados());
+    }
+}
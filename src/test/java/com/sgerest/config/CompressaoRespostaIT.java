@@ -0,0 +1,110 @@
+package com.sgerest.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import com.sgerest.domain.entities.TituloEntity;
+import com.sgerest.domain.repository.TituloRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Compressão de respostas")
+class CompressaoRespostaIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TituloRepository tituloRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        tituloRepository.deleteAll();
+        List<TituloEntity> titulos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            TituloEntity titulo = new TituloEntity();
+            titulo.setDescricao("Título Comprimido " + i);
+            titulos.add(titulo);
+        }
+        tituloRepository.saveAll(titulos);
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com gzip páginas acima do limite quando o cliente aceita")
+    void testPaginaGrandeComprimida() throws Exception {
+        HttpResponse<byte[]> response = get("/v1/titulos?size=200", MediaType.APPLICATION_JSON_VALUE);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        String json = new String(descomprimir(response.body()), StandardCharsets.UTF_8);
+        assertTrue(json.contains("Título Comprimido 199"));
+        assertTrue(response.body().length < json.getBytes(StandardCharsets.UTF_8).length / 4);
+    }
+
+    @Test
+    @DisplayName("Deve comprimir também as páginas em CBOR")
+    void testPaginaCborComprimida() throws Exception {
+        HttpResponse<byte[]> response = get("/v1/titulos?size=200", MediaType.APPLICATION_CBOR_VALUE);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+    }
+
+    @Test
+    @DisplayName("Deve comprimir exportações em streaming sem perder linhas")
+    void testExportacaoComprimida() throws Exception {
+        HttpResponse<byte[]> response = get("/v1/titulos/export?format=csv", "text/csv");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        String csv = new String(descomprimir(response.body()), StandardCharsets.UTF_8);
+        assertEquals(201, csv.split("\r\n").length);
+    }
+
+    @Test
+    @DisplayName("Não deve comprimir respostas abaixo do limite")
+    void testPaginaPequenaSemCompressao() throws Exception {
+        HttpResponse<byte[]> response = get("/v1/titulos?size=1", MediaType.APPLICATION_JSON_VALUE);
+
+        assertEquals(200, response.statusCode());
+        assertFalse(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isPresent());
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api" + path))
+                .header(HttpHeaders.ACCEPT, accept)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] descomprimir(byte[] corpo) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(corpo))) {
+            return gzip.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.sgerest.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import java.sql.Connection;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:backpressure;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Testes de Integração - Backpressure do pool de conexões")
+class ConnectionPoolBackpressureIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Deve responder 503 só a quem precisa de conexão com o pool esgotado")
+    void testPoolEsgotado() throws Exception {
+        String resposta = mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Backpressure\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(resposta).get("id").asLong();
+
+        try (Connection ocupada = dataSource.getConnection()) {
+            mockMvc.perform(get("/v1/titulos"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.message", equalTo("Servidor sobrecarregado, tente novamente em instantes.")));
+
+            mockMvc.perform(get("/v1/titulos/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.descricao", equalTo("Backpressure")));
+            mockMvc.perform(get("/v1/titulos/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/v1/titulos/suggest").param("prefix", "back"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].descricao", contains("Backpressure")));
+        }
+
+        mockMvc.perform(get("/v1/titulos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].descricao", contains("Backpressure")));
+    }
+}
@@ -0,0 +1,58 @@
+package com.sgerest.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.metrics.test.autoconfigure.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Métricas")
+class MetricsIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve expor histogramas por rota, timers do serviço, Hibernate, pool e cache no Prometheus")
+    void testEndpointPrometheus() throws Exception {
+        mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Título Métricas\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/v1/titulos/{id}", 999999L))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/maintenance/caches"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("http_server_requests_seconds_bucket{"),
+                        containsString("uri=\"/v1/titulos/{id}\""),
+                        containsString("status=\"404\""),
+                        containsString("uri=\"/v1/maintenance/caches\""),
+                        containsString("le=\"0.2\""),
+                        containsString("sge_titulo_service_seconds_bucket{"),
+                        containsString("method=\"cadastrar\""),
+                        containsString("hibernate_statements_total"),
+                        containsString("hibernate_entities_loads_total"),
+                        containsString("hibernate_flushes_total"),
+                        containsString("hikaricp_connections_active"),
+                        containsString("hikaricp_connections_pending"),
+                        containsString("hikaricp_connections_acquire_seconds"),
+                        containsString("cache_gets_total{cache=\"titulos\""),
+                        containsString("hikaricp_connections_timeout_total"))));
+    }
+}
@@ -0,0 +1,26 @@
+package com.sgerest.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes do ReplicaAotCheck")
+class ReplicaAotCheckTest {
+
+    @Test
+    @DisplayName("Deve impedir a inicialização sob AOT com réplicas configuradas e sem roteamento")
+    void testFalhaSobAotSemRoteamento() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> ReplicaAotCheck.verificar(true, true, false));
+        assertTrue(ex.getMessage().contains("sge.datasource.replicas"));
+    }
+
+    @Test
+    @DisplayName("Deve permitir a inicialização nos demais casos")
+    void testPermiteDemaisCasos() {
+        assertDoesNotThrow(() -> ReplicaAotCheck.verificar(false, true, false));
+        assertDoesNotThrow(() -> ReplicaAotCheck.verificar(true, false, false));
+        assertDoesNotThrow(() -> ReplicaAotCheck.verificar(true, true, true));
+    }
+}
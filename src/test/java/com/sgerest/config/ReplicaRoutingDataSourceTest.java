@@ -0,0 +1,165 @@
+package com.sgerest.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("Testes do ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primario = mock(DataSource.class);
+    private final DataSource replicaA = mock(DataSource.class);
+    private final DataSource replicaB = mock(DataSource.class);
+    private final Connection conexaoPrimario = mock(Connection.class);
+    private final Connection conexaoA = mock(Connection.class);
+    private final Connection conexaoB = mock(Connection.class);
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        when(replicaA.getConnection()).thenReturn(conexaoA);
+        when(replicaB.getConnection()).thenReturn(conexaoB);
+        when(conexaoA.isValid(anyInt())).thenReturn(true);
+        when(conexaoB.isValid(anyInt())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    @DisplayName("Deve alternar as leituras entre as réplicas em round-robin")
+    void testRoundRobin() throws SQLException {
+        routing = criar(Duration.ZERO);
+
+        assertSame(conexaoA, routing.getConnection());
+        assertSame(conexaoB, routing.getConnection());
+        assertSame(conexaoA, routing.getConnection());
+        verify(primario, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve retirar da rotação a réplica que falha e devolvê-la quando a verificação passar")
+    void testRetiraEDevolveReplica() throws SQLException {
+        routing = criar(Duration.ZERO);
+        when(replicaA.getConnection()).thenThrow(new SQLException("fora do ar"));
+
+        assertSame(conexaoB, routing.getConnection());
+        assertSame(conexaoB, routing.getConnection());
+        assertSame(conexaoB, routing.getConnection());
+        verify(replicaA, times(1)).getConnection();
+
+        reset(replicaA);
+        when(replicaA.getConnection()).thenReturn(conexaoA);
+        routing.verificarReplicas();
+
+        assertTrue(List.of(routing.getConnection(), routing.getConnection()).contains(conexaoA));
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário quando nenhuma réplica responde")
+    void testSemReplicasUsaPrimario() throws SQLException {
+        routing = criar(Duration.ZERO);
+        when(replicaA.getConnection()).thenThrow(new SQLException("fora do ar"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("fora do ar"));
+
+        assertSame(conexaoPrimario, routing.getConnection());
+        assertSame(conexaoPrimario, routing.getConnection());
+        verify(replicaA, times(1)).getConnection();
+        verify(replicaB, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve manter as leituras no primário durante a janela após o commit de uma escrita")
+    void testJanelaDeLeituraAposEscrita() throws SQLException {
+        routing = criar(Duration.ofHours(1));
+        assertSame(conexaoA, routing.getConnection());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            assertSame(conexaoPrimario, routing.primarioRegistrandoEscritas().getConnection());
+            assertSame(conexaoB, routing.getConnection());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        assertSame(conexaoPrimario, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário dentro de noPrimario, inclusive em chamadas aninhadas")
+    void testNoPrimario() throws SQLException {
+        routing = criar(Duration.ZERO);
+
+        Connection conexao = ReplicaRoutingDataSource.noPrimario(() -> {
+            ReplicaRoutingDataSource.noPrimario(() -> assertSame(conexaoPrimario, obter()));
+            return obter();
+        });
+
+        assertSame(conexaoPrimario, conexao);
+        assertSame(conexaoA, routing.getConnection());
+        verify(replicaB, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve fixar a réplica durante a leitura e informar quando ela fica no primário")
+    void testLerComDestinoFixado() throws SQLException {
+        routing = criar(Duration.ZERO);
+
+        List<Connection> conexoes = routing.lerComDestinoFixado(daReplica -> {
+            assertTrue(daReplica);
+            return List.of(obter(), obter(), routing.lerComDestinoFixado(aninhada -> obter()));
+        });
+        boolean noPrimario = ReplicaRoutingDataSource.noPrimario(() -> routing.lerComDestinoFixado(daReplica -> {
+            assertSame(conexaoPrimario, obter());
+            return daReplica;
+        }));
+
+        assertEquals(List.of(conexaoA, conexaoA, conexaoA), conexoes);
+        assertFalse(noPrimario);
+        assertSame(conexaoB, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Não deve desviar leituras para o primário com a janela desligada")
+    void testSemJanela() throws SQLException {
+        routing = criar(Duration.ZERO);
+        assertSame(primario, routing.primarioRegistrandoEscritas());
+
+        routing.registrarEscrita();
+        assertSame(conexaoA, routing.getConnection());
+    }
+
+    private Connection obter() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ReplicaRoutingDataSource criar(Duration janela) {
+        return new ReplicaRoutingDataSource(primario, List.of(
+                new ReplicaRoutingDataSource.Replica("replica-1", replicaA),
+                new ReplicaRoutingDataSource.Replica("replica-2", replicaB)),
+                janela, Duration.ofHours(1));
+    }
+}
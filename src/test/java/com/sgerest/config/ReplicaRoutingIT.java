@@ -0,0 +1,133 @@
+package com.sgerest.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.sgerest.domain.cache.TituloCache;
+import com.sgerest.domain.repository.TituloRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Primário e réplica são dois bancos H2 independentes, sem replicação entre eles:
+ * o que cada requisição enxerga mostra para onde ela foi roteada.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primario;DB_CLOSE_DELAY=-1",
+        "sge.datasource.replicas[0].url=" + ReplicaRoutingIT.URL_REPLICA,
+        "sge.datasource.health-check-interval=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Roteamento para réplicas de leitura")
+class ReplicaRoutingIT {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TituloRepository tituloRepository;
+
+    @Autowired
+    private TituloCache tituloCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void criarReplica() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL_REPLICA, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS titulo (
+                        id_titulo BIGINT PRIMARY KEY,
+                        tx_descricao VARCHAR(150) NOT NULL,
+                        nr_versao BIGINT NOT NULL)
+                    """);
+            statement.execute("MERGE INTO titulo KEY (id_titulo) VALUES (900001, 'Somente na Réplica', 0)");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura para a réplica e escritas para o primário")
+    void testLeituraNaReplicaEscritaNoPrimario() throws Exception {
+        assertEquals(LazyConnectionDataSourceProxy.class, dataSource.getClass());
+
+        mockMvc.perform(get("/v1/titulos/search").param("q", "Somente"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].descricao", contains("Somente na Réplica")));
+
+        mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Somente no Primário\"}"))
+                .andExpect(status().isCreated());
+
+        // findByDescricao roda fora de transação somente leitura: vai ao primário
+        assertEquals(true, tituloRepository.findByDescricao("Somente no Primário").isPresent());
+        mockMvc.perform(get("/v1/titulos/search").param("q", "Somente"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].descricao", contains("Somente na Réplica")));
+    }
+
+    @Test
+    @DisplayName("Deve ler por ID e listar nas réplicas sem guardar o resultado em cache")
+    void testLeiturasNaReplicaForaDosCaches() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        double antes = leiturasNaReplica();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/v1/titulos/{id}", 900001))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.descricao", equalTo("Somente na Réplica")));
+            mockMvc.perform(get("/v1/titulos"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[*].descricao", hasItem("Somente na Réplica")));
+            mockMvc.perform(get("/v1/titulos").param("after", "").param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[*].descricao", hasItem("Somente na Réplica")));
+        }
+
+        assertEquals(antes + 6, leiturasNaReplica());
+        assertTrue(tituloCache.getIfPresent(900001L).isEmpty());
+        assertEquals(0, statistics.getQueryCachePutCount());
+    }
+
+    private double leiturasNaReplica() {
+        return meterRegistry.get("sge.datasource.reads").tag("destino", "replica-1").functionCounter().count();
+    }
+}
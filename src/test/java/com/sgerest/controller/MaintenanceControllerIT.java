@@ -0,0 +1,88 @@
+package com.sgerest.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sgerest.config.TestConfig;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Testes de Integração - MaintenanceController")
+class MaintenanceControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Deve agendar as migrações e expor o andamento do job")
+    void testJobDeMigracao() throws Exception {
+        MvcResult agendado = mockMvc.perform(post("/v1/maintenance/run-migrations"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString("/v1/maintenance/migration-jobs/")))
+                .andExpect(jsonPath("$.id").isNotEmpty())
+                .andExpect(jsonPath("$.instanceId").isNotEmpty())
+                .andReturn();
+        String id = objectMapper.readTree(agendado.getResponse().getContentAsString()).get("id").asText();
+
+        JsonNode job = aguardar(id);
+
+        // o schema de teste é criado pelo Hibernate, sem histórico do Flyway: o job
+        // termina em falha antes de aplicar qualquer migração
+        assertEquals("FALHOU", job.get("status").asText());
+        assertEquals(0, job.get("migrationsExecuted").asInt());
+        assertTrue(job.get("migrationsTotal").asInt() > 0);
+        assertFalse(job.get("message").asText().isBlank());
+        assertEquals("1", job.get("migrations").get(0).get("version").asText());
+        assertEquals("PENDENTE", job.get("migrations").get(0).get("status").asText());
+
+        mockMvc.perform(get("/v1/maintenance/migration-jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para job inexistente e 400 para ID inválido")
+    void testJobInexistente() throws Exception {
+        mockMvc.perform(get("/v1/maintenance/migration-jobs/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", containsString("na instância")));
+        mockMvc.perform(get("/v1/maintenance/migration-jobs/{id}", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode aguardar(String id) throws Exception {
+        long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (true) {
+            String body = mockMvc.perform(get("/v1/maintenance/migration-jobs/{id}", id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = objectMapper.readTree(body);
+            if (!job.get("finishedAt").isNull() || System.nanoTime() > limite) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.sgerest.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sgerest.config.TestConfig;
+import com.sgerest.domain.entities.ProfessorEntity;
+import com.sgerest.domain.entities.TituloEntity;
+import com.sgerest.domain.repository.ProfessorRepository;
+import com.sgerest.domain.repository.TituloRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Testes de Integração - ProfessorController")
+class ProfessorControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private TituloRepository tituloRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        professorRepository.deleteAllInBatch();
+        tituloRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar, buscar, atualizar e deletar professor")
+    void testCrud() throws Exception {
+        Long tituloId = criarTitulos(2).get(0).getId();
+        Long outroTituloId = tituloRepository.findAll().stream()
+                .filter(t -> !t.getId().equals(tituloId)).findFirst().orElseThrow().getId();
+
+        String location = mockMvc.perform(post("/v1/professores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(tituloId, "Ana Souza")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", notNullValue()))
+                .andExpect(jsonPath("$.tituloId", equalTo(tituloId.intValue())))
+                .andExpect(jsonPath("$.tituloDescricao", equalTo("Titulo 0")))
+                .andExpect(jsonPath("$.ativo", equalTo(true)))
+                .andReturn().getResponse().getHeader("Location");
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome", equalTo("Ana Souza")))
+                .andExpect(jsonPath("$.dataNascimento", equalTo("1985-03-10")));
+
+        mockMvc.perform(put(location)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(outroTituloId, "Ana Souza Lima")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome", equalTo("Ana Souza Lima")))
+                .andExpect(jsonPath("$.tituloDescricao", equalTo("Titulo 1")));
+
+        mockMvc.perform(delete(location))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get(location))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar professor com título inexistente ou dados inválidos")
+    void testCadastrarInvalido() throws Exception {
+        mockMvc.perform(post("/v1/professores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(999999L, "Sem Título")))
+                .andExpect(status().isNotFound());
+
+        Long tituloId = criarTitulos(1).get(0).getId();
+        mockMvc.perform(post("/v1/professores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(tituloId, "Sexo Inválido").replace("\"F\"", "\"X\"")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("sexo")));
+    }
+
+    @Test
+    @DisplayName("Deve listar 500 professores com título em no máximo 2 statements (página + contagem)")
+    void testListarSemNMaisUm() throws Exception {
+        List<TituloEntity> titulos = criarTitulos(50);
+        criarProfessores(titulos, 500);
+
+        statistics.clear();
+        mockMvc.perform(get("/v1/professores").param("size", "500").param("sort", "nome"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", equalTo(500)))
+                .andExpect(jsonPath("$.content[0].tituloDescricao", startsWith("Titulo ")))
+                .andExpect(jsonPath("$.totalElements", equalTo(500)));
+
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Statements executados: " + statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deve buscar professor por ID e filtrar por título com uma consulta cada")
+    void testBuscarComUmaConsulta() throws Exception {
+        List<TituloEntity> titulos = criarTitulos(2);
+        List<ProfessorEntity> professores = criarProfessores(titulos, 10);
+
+        statistics.clear();
+        mockMvc.perform(get("/v1/professores/{id}", professores.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tituloDescricao", equalTo("Titulo 0")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        mockMvc.perform(get("/v1/professores").param("tituloId", titulos.get(1).getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", equalTo(5)))
+                .andExpect(jsonPath("$.content[*].tituloDescricao", everyItem(equalTo("Titulo 1"))));
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deve remover professores em cascata ao deletar títulos em lote")
+    void testCascataNaExclusaoDeTitulos() throws Exception {
+        List<TituloEntity> titulos = criarTitulos(2);
+        criarProfessores(titulos, 6);
+
+        mockMvc.perform(delete("/v1/titulos").param("ids", titulos.get(0).getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.professoresRemovidosEmCascata", equalTo(3)));
+
+        assertEquals(3, professorRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve buscar professores por substring do nome, com o título e o mais parecido primeiro")
+    void testBuscarPorNome() throws Exception {
+        List<TituloEntity> titulos = criarTitulos(1);
+        criarProfessores(titulos, 3);
+        mockMvc.perform(post("/v1/professores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(titulos.get(0).getId(), "Maria")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/v1/professores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(titulos.get(0).getId(), "Ana Maria Silva")))
+                .andExpect(status().isCreated());
+
+        statistics.clear();
+        mockMvc.perform(get("/v1/professores/search").param("q", "maria"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].nome", contains("Maria", "Ana Maria Silva")))
+                .andExpect(jsonPath("$[0].tituloDescricao", equalTo("Titulo 0")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(get("/v1/professores/search").param("q", "ma"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve exportar professores com o título em CSV sem carregar entidades")
+    void testExportarCsv() throws Exception {
+        List<TituloEntity> titulos = criarTitulos(2);
+        List<ProfessorEntity> professores = criarProfessores(titulos, 250);
+
+        statistics.clear();
+        MvcResult resultado = mockMvc.perform(get("/v1/professores/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] linhas = corpo.split("\r\n");
+        assertEquals(251, linhas.length);
+        assertEquals("id,nome,sexo,estadoCivil,dataNascimento,telefone,dataContratacao,ativo,tituloId,tituloDescricao",
+                linhas[0]);
+        ProfessorEntity primeiro = professores.get(0);
+        assertEquals(primeiro.getId() + ",Professor 000,M,S,1980-01-01,61999990000," + LocalDate.now()
+                + ",true," + titulos.get(0).getId() + ",Titulo 0", linhas[1]);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private List<TituloEntity> criarTitulos(int quantidade) {
+        List<TituloEntity> titulos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            TituloEntity titulo = new TituloEntity();
+            titulo.setDescricao("Titulo " + i);
+            titulos.add(titulo);
+        }
+        return tituloRepository.saveAll(titulos);
+    }
+
+    private List<ProfessorEntity> criarProfessores(List<TituloEntity> titulos, int quantidade) {
+        List<ProfessorEntity> professores = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            ProfessorEntity professor = new ProfessorEntity();
+            professor.setTitulo(titulos.get(i % titulos.size()));
+            professor.setNome(String.format("Professor %03d", i));
+            professor.setSexo(i % 2 == 0 ? "M" : "F");
+            professor.setEstadoCivil("S");
+            professor.setDataNascimento(LocalDate.of(1980, 1, 1).plusDays(i));
+            professor.setTelefone("6199999" + String.format("%04d", i));
+            professores.add(professor);
+        }
+        return professorRepository.saveAll(professores);
+    }
+
+    private String json(Long tituloId, String nome) {
+        return """
+                {"tituloId": %d, "nome": "%s", "sexo": "F", "estadoCivil": "C",
+                 "dataNascimento": "1985-03-10", "telefone": "61999990000"}
+                """.formatted(tituloId, nome);
+    }
+}
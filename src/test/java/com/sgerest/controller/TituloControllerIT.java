@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,15 +16,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.nio.charset.StandardCharsets;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sgerest.config.TestConfig;
 import com.sgerest.controller.DTO.titulo.TituloDTORequest;
 import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.domain.cache.TituloCache;
 import com.sgerest.domain.repository.TituloRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -38,6 +57,15 @@ class TituloControllerIT {
     @Autowired
     private TituloRepository tituloRepository;
 
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TituloCache tituloCache;
+
     @BeforeEach
     void setUp() {
         tituloRepository.deleteAll();
@@ -175,6 +203,53 @@ class TituloControllerIT {
     /**
      * Helper de criação de título que valida o sucesso da operação.
      */
+    @Test
+    @DisplayName("Deve deletar títulos em lote e informar IDs não encontrados")
+    void testDeletarEmLote() throws Exception {
+        Long id1 = criarTitulo("Lote Exclusão 1");
+        Long id2 = criarTitulo("Lote Exclusão 2");
+
+        mockMvc.perform(delete("/v1/titulos").param("ids", id1 + "," + id2 + ",999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.solicitados", equalTo(3)))
+                .andExpect(jsonPath("$.removidos.length()", equalTo(2)))
+                .andExpect(jsonPath("$.naoEncontrados[0]", equalTo(999999)))
+                .andExpect(jsonPath("$.professoresRemovidosEmCascata", equalTo(0)));
+
+        mockMvc.perform(get("/v1/titulos/{id}", id1))
+                .andExpect(status().isNotFound());
+        criarTituloOuFalhar("Lote Exclusão 1");
+    }
+
+    @Test
+    @DisplayName("Deve deletar títulos em lote informados no corpo e rejeitar lista vazia")
+    void testDeletarEmLotePorCorpo() throws Exception {
+        Long id = criarTitulo("Lote Exclusão Corpo");
+
+        mockMvc.perform(post("/v1/titulos/batch-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [" + id + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removidos[0]", equalTo(id.intValue())))
+                .andExpect(jsonPath("$.naoEncontrados.length()", equalTo(0)));
+
+        mockMvc.perform(post("/v1/titulos/batch-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long criarTitulo(String descricao) throws Exception {
+        String responseContent = mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TituloDTORequest(descricao))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(responseContent, TituloDTOResponse.class).id();
+    }
+
     private void criarTituloOuFalhar(String descricao) throws Exception {
         TituloDTORequest request = new TituloDTORequest(descricao);
         mockMvc.perform(post("/v1/titulos")
@@ -201,7 +276,44 @@ class TituloControllerIT {
                 .andExpect(jsonPath("$.pageNumber", equalTo(0)))
                 .andExpect(jsonPath("$.pageSize", equalTo(10)))
                 .andExpect(jsonPath("$.hasNext", equalTo(true)))
-                .andExpect(jsonPath("$.hasPrevious", equalTo(false)));
+                .andExpect(jsonPath("$.hasPrevious", equalTo(false)))
+                .andExpect(jsonPath("$.totalType", equalTo("EXACT")));
+    }
+
+    @Test
+    @DisplayName("Deve listar títulos sem total quando total = none")
+    void testListarTitulosSemTotal() throws Exception {
+        for (int i = 1; i <= 15; i++) {
+            criarTituloOuFalhar("Título " + i);
+        }
+
+        mockMvc.perform(get("/v1/titulos")
+                .param("page", "1")
+                .param("size", "10")
+                .param("total", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)))
+                .andExpect(jsonPath("$.totalType", equalTo("NONE")))
+                .andExpect(jsonPath("$.totalElements", nullValue()))
+                .andExpect(jsonPath("$.hasNext", equalTo(false)))
+                .andExpect(jsonPath("$.hasPrevious", equalTo(true)));
+    }
+
+    @Test
+    @DisplayName("Deve listar títulos com total estimado")
+    void testListarTitulosComTotalEstimado() throws Exception {
+        for (int i = 1; i <= 15; i++) {
+            criarTituloOuFalhar("Título " + i);
+        }
+
+        mockMvc.perform(get("/v1/titulos")
+                .param("page", "0")
+                .param("size", "10")
+                .param("total", "estimated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.totalType", equalTo("ESTIMATED")))
+                .andExpect(jsonPath("$.totalElements", greaterThanOrEqualTo(11)));
     }
 
     @Test
@@ -275,4 +387,487 @@ class TituloControllerIT {
                 .andExpect(jsonPath("$.message", equalTo(mensagemFormatada)));
     }
 
+    @Test
+    @DisplayName("Deve cadastrar títulos em lote via array JSON reportando resultado por item")
+    void testCadastrarEmLoteJson() throws Exception {
+        criarTituloOuFalhar("Existente");
+        String json = "[{\"descricao\": \"Lote 1\"}, {\"descricao\": \"lote 1\"}, "
+                + "{\"descricao\": \"EXISTENTE\"}, {\"descricao\": \"  \"}, {\"descricao\": \"Lote 2\"}]";
+
+        mockMvc.perform(post("/v1/titulos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(5)))
+                .andExpect(jsonPath("$.criados", equalTo(2)))
+                .andExpect(jsonPath("$.rejeitados", equalTo(3)))
+                .andExpect(jsonPath("$.itens[0].status", equalTo("CRIADO")))
+                .andExpect(jsonPath("$.itens[0].id", notNullValue()))
+                .andExpect(jsonPath("$.itens[1].status", equalTo("DUPLICADO")))
+                .andExpect(jsonPath("$.itens[2].status", equalTo("DUPLICADO")))
+                .andExpect(jsonPath("$.itens[3].status", equalTo("INVALIDO")))
+                .andExpect(jsonPath("$.itens[4].status", equalTo("CRIADO")));
+
+        assertEquals(3, tituloRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar títulos em lote via NDJSON")
+    void testCadastrarEmLoteNdjson() throws Exception {
+        String ndjson = "{\"descricao\": \"Linha 1\"}\n{\"descricao\": \"Linha 2\"}\n";
+
+        mockMvc.perform(post("/v1/titulos/batch")
+                .contentType(TituloController.APPLICATION_NDJSON_VALUE)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(2)))
+                .andExpect(jsonPath("$.criados", equalTo(2)))
+                .andExpect(jsonPath("$.itens[1].descricao", equalTo("Linha 2")));
+
+        assertEquals(2, tituloRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para NDJSON malformado sem gravar nenhum item")
+    void testCadastrarEmLoteNdjsonInvalido() throws Exception {
+        String ndjson = "{\"descricao\": \"Linha 1\"}\n{\"descricao\": invalido}\n";
+
+        mockMvc.perform(post("/v1/titulos/batch")
+                .contentType(TituloController.APPLICATION_NDJSON_VALUE)
+                .content(ndjson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("linha 2")));
+
+        assertEquals(0, tituloRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os títulos com paginação por cursor ordenada por ID")
+    void testListarPorCursorOrdenadoPorId() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            criarTituloOuFalhar("Cursor " + i);
+        }
+
+        List<String> descricoes = percorrerCursor("id");
+
+        assertEquals(List.of("Cursor 1", "Cursor 2", "Cursor 3", "Cursor 4", "Cursor 5"), descricoes);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os títulos com paginação por cursor ordenada por descrição")
+    void testListarPorCursorOrdenadoPorDescricao() throws Exception {
+        for (String descricao : List.of("Delta", "Alfa", "Eco", "Charlie", "Bravo")) {
+            criarTituloOuFalhar(descricao);
+        }
+
+        List<String> descricoes = percorrerCursor("descricao");
+
+        assertEquals(List.of("Alfa", "Bravo", "Charlie", "Delta", "Eco"), descricoes);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido")
+    void testListarPorCursorInvalido() throws Exception {
+        mockMvc.perform(get("/v1/titulos")
+                .param("after", "invalido")
+                .param("size", "2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para ordenação decrescente na paginação por cursor")
+    void testListarPorCursorDecrescente() throws Exception {
+        mockMvc.perform(get("/v1/titulos")
+                .param("after", "")
+                .param("size", "2")
+                .param("sort", "descricao,desc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/titulos")
+                .param("after", "")
+                .param("size", "2")
+                .param("sort", "descricao,asc"))
+                .andExpect(status().isOk());
+    }
+
+    private List<String> percorrerCursor(String sort) throws Exception {
+        List<String> descricoes = new ArrayList<>();
+        String after = "";
+        int paginas = 0;
+        while (after != null) {
+            String content = mockMvc.perform(get("/v1/titulos")
+                    .param("after", after)
+                    .param("size", "2")
+                    .param("sort", sort))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.pageSize", equalTo(2)))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            JsonNode page = objectMapper.readTree(content);
+            page.get("content").forEach(node -> descricoes.add(node.get("descricao").asText()));
+            after = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            paginas++;
+        }
+        assertEquals(3, paginas);
+        return descricoes;
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 ao GET por ID com If-None-Match da versão atual")
+    void testGetByIdComEtag() throws Exception {
+        TituloDTORequest request = new TituloDTORequest("Título com ETag");
+        String responseContent = mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long id = objectMapper.readValue(responseContent, TituloDTOResponse.class).id();
+
+        String etag = mockMvc.perform(get("/v1/titulos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.versao").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/v1/titulos/{id}", id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Título com ETag alterado\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/titulos/{id}", id).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.descricao", equalTo("Título com ETag alterado")));
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 ao GET condicional de título inexistente")
+    void testGetByIdComEtagInexistente() throws Exception {
+        mockMvc.perform(get("/v1/titulos/{id}", 999L).header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 à listagem com If-None-Match da página atual")
+    void testListarComEtag() throws Exception {
+        criarTituloOuFalhar("Página A");
+        criarTituloOuFalhar("Página B");
+
+        String etag = mockMvc.perform(get("/v1/titulos").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/")))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/v1/titulos").param("size", "10").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        criarTituloOuFalhar("Página C");
+
+        mockMvc.perform(get("/v1/titulos").param("size", "10").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar PUT condicional com If-Match e rejeitar versão desatualizada com 412")
+    void testAtualizarComIfMatch() throws Exception {
+        TituloDTORequest request = new TituloDTORequest("Título Condicional");
+        String responseContent = mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long id = objectMapper.readValue(responseContent, TituloDTOResponse.class).id();
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Título Condicional 2\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.descricao", equalTo("Título Condicional 2")));
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Título Condicional 3\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error", equalTo("Precondition Failed")));
+
+        mockMvc.perform(get("/v1/titulos/{id}", id))
+                .andExpect(jsonPath("$.descricao", equalTo("Título Condicional 2")));
+    }
+
+    @Test
+    @DisplayName("Deve comparar If-Match de forma forte: ETag fraca dá 412 e listas são verificadas item a item")
+    void testAtualizarComIfMatchFracoELista() throws Exception {
+        String responseContent = mockMvc.perform(post("/v1/titulos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Título If-Match Lista\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long id = objectMapper.readValue(responseContent, TituloDTOResponse.class).id();
+
+        for (String ifMatch : List.of("W/\"0\"", "\"5\", \"7\"", "invalido")) {
+            mockMvc.perform(put("/v1/titulos/{id}", id)
+                    .header("If-Match", ifMatch)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"descricao\": \"Título If-Match Lista 2\"}"))
+                    .andExpect(status().isPreconditionFailed());
+        }
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .header("If-Match", "W/\"0\", \"5\", \"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Título If-Match Lista 2\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 no PUT condicional de título inexistente")
+    void testAtualizarComIfMatchInexistente() throws Exception {
+        mockMvc.perform(put("/v1/titulos/{id}", 999L)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Qualquer\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve buscar títulos por substring da descrição, com o mais parecido primeiro")
+    void testBuscarPorDescricao() throws Exception {
+        criarTituloOuFalhar("Doutorado em Engenharia de Software");
+        criarTituloOuFalhar("Engenharia");
+        criarTituloOuFalhar("Mestrado em Engenharia Elétrica");
+        criarTituloOuFalhar("Especialização em Redes");
+        criarTituloOuFalhar("100% Engenharia_Civil");
+
+        mockMvc.perform(get("/v1/titulos/search").param("q", "ENGENHARIA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", equalTo(4)))
+                .andExpect(jsonPath("$[0].descricao", equalTo("Engenharia")));
+
+        mockMvc.perform(get("/v1/titulos/search").param("q", "engenharia").param("limit", "2"))
+                .andExpect(jsonPath("$.length()", equalTo(2)));
+
+        // curingas do LIKE no termo são tratados como texto
+        mockMvc.perform(get("/v1/titulos/search").param("q", "a_c"))
+                .andExpect(jsonPath("$[*].descricao", contains("100% Engenharia_Civil")));
+        mockMvc.perform(get("/v1/titulos/search").param("q", "0% E"))
+                .andExpect(jsonPath("$.length()", equalTo(1)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para busca com termo curto ou limite inválido")
+    void testBuscarInvalido() throws Exception {
+        mockMvc.perform(get("/v1/titulos/search").param("q", " ab "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("pelo menos 3")));
+
+        mockMvc.perform(get("/v1/titulos/search").param("q", "abc").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir títulos por prefixo a partir do índice em memória, acompanhando as escritas")
+    void testSugerirPorPrefixo() throws Exception {
+        Long id = criarTitulo("Sugestão Álgebra Linear");
+        criarTituloOuFalhar("Sugestão Algoritmos");
+        criarTituloOuFalhar("Sugestão Banco de Dados");
+
+        mockMvc.perform(get("/v1/titulos/suggest").param("prefix", "SUGESTAO AL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].descricao",
+                        contains("Sugestão Álgebra Linear", "Sugestão Algoritmos")))
+                .andExpect(jsonPath("$[0].id", equalTo(id.intValue())));
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Sugestão Cálculo\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/titulos/{id}", id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/v1/titulos/suggest").param("prefix", "sugestão").param("limit", "5"))
+                .andExpect(jsonPath("$[*].descricao", contains("Sugestão Algoritmos", "Sugestão Banco de Dados")));
+
+        mockMvc.perform(get("/v1/titulos/suggest").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve exportar todos os títulos em NDJSON e CSV, em streaming e em ordem de ID")
+    void testExportar() throws Exception {
+        Long primeiro = criarTitulo("Exportação, \"com\" aspas");
+        Long segundo = criarTitulo("Exportação simples");
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        int conexoesAtivas = pool.getActiveConnections();
+
+        MvcResult ndjson = mockMvc.perform(get("/v1/titulos/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String corpo = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", containsString("titulos.ndjson")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] linhas = corpo.split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals(primeiro, objectMapper.readValue(linhas[0], TituloDTOResponse.class).id());
+        assertEquals(new TituloDTOResponse(segundo, "Exportação simples", null),
+                objectMapper.readValue(linhas[1], TituloDTOResponse.class));
+        assertEquals(conexoesAtivas, pool.getActiveConnections());
+
+        MvcResult csv = mockMvc.perform(get("/v1/titulos/export").param("format", "CSV"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string("id,descricao\r\n"
+                        + primeiro + ",\"Exportação, \"\"com\"\" aspas\"\r\n"
+                        + segundo + ",Exportação simples\r\n"));
+
+        mockMvc.perform(get("/v1/titulos/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve servir leitura por ID, página e cursor sem carregar entidades no contexto de persistência")
+    void testLeiturasSemEntidadesGerenciadas() throws Exception {
+        Long id = criarTitulo("Leitura Projetada A");
+        criarTituloOuFalhar("Leitura Projetada B");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        tituloCache.evict(id);
+        statistics.clear();
+
+        mockMvc.perform(get("/v1/titulos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.descricao", equalTo("Leitura Projetada A")));
+        mockMvc.perform(get("/v1/titulos").param("sort", "descricao,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].descricao", equalTo("Leitura Projetada B")));
+        mockMvc.perform(get("/v1/titulos").param("total", "none"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/titulos").param("after", "").param("sort", "descricao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", equalTo(2)));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deve repetir listagens pelo cache de consultas e invalidá-las após cadastrar, atualizar e deletar")
+    void testCacheDeConsultasInvalidadoPorEscritas() throws Exception {
+        Long id = criarTitulo("Cache Consulta A");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        mockMvc.perform(get("/v1/titulos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].descricao", contains("Cache Consulta A")));
+        statistics.clear();
+        mockMvc.perform(get("/v1/titulos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].descricao", contains("Cache Consulta A")));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        mockMvc.perform(put("/v1/titulos/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"descricao\": \"Cache Consulta A2\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/titulos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].descricao", contains("Cache Consulta A2")));
+
+        Long outro = criarTitulo("Cache Consulta B");
+        mockMvc.perform(get("/v1/titulos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", equalTo(2)));
+
+        mockMvc.perform(delete("/v1/titulos/{id}", id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/v1/titulos").param("ids", outro.toString()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/titulos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", equalTo(0)));
+    }
+
+    @Test
+    @DisplayName("Deve servir entidades repetidas pela região de segundo nível")
+    void testCacheSegundoNivelDeEntidades() throws Exception {
+        Long id = criarTitulo("Cache Entidade");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        tituloRepository.findById(id).orElseThrow();
+        tituloRepository.findById(id).orElseThrow();
+
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        mockMvc.perform(get("/v1/maintenance/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.l2Titulo.size", equalTo(1)))
+                .andExpect(jsonPath("$.l2Titulo.hitCount", equalTo(1)));
+    }
+
+    @Test
+    @DisplayName("Deve negociar listagens em CBOR e Smile, mantendo JSON como padrão")
+    void testListarEmFormatosBinarios() throws Exception {
+        criarTitulo("Formato Binário");
+
+        Map<String, tools.jackson.databind.ObjectMapper> formatos = Map.of(
+                MediaType.APPLICATION_CBOR_VALUE, new CBORMapper(),
+                TituloController.APPLICATION_SMILE_VALUE, new SmileMapper());
+        for (var formato : formatos.entrySet()) {
+            MvcResult result = mockMvc.perform(get("/v1/titulos").accept(formato.getKey()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(formato.getKey()))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                    .andReturn();
+            var pagina = formato.getValue().readTree(result.getResponse().getContentAsByteArray());
+            assertEquals("Formato Binário", pagina.get("content").get(0).get("descricao").asString());
+            assertEquals(1, pagina.get("totalElements").asInt());
+        }
+
+        mockMvc.perform(get("/v1/titulos").param("after", "").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/v1/titulos").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Deve servir o título por ID só em JSON, já que a ETag não varia com o formato")
+    void testGetByIdSomenteJson() throws Exception {
+        Long id = criarTitulo("Somente JSON");
+
+        for (String formato : List.of(MediaType.APPLICATION_CBOR_VALUE, TituloController.APPLICATION_SMILE_VALUE)) {
+            mockMvc.perform(get("/v1/titulos/{id}", id).accept(formato))
+                    .andExpect(status().isNotAcceptable())
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        }
+        mockMvc.perform(get("/v1/titulos/{id}", id).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+    }
+
 }
@@ -0,0 +1,81 @@
+package com.sgerest.domain.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.controller.DTO.titulo.TituloSugestaoResponse;
+
+@DisplayName("Testes do TituloSugestaoIndex")
+class TituloSugestaoIndexTest {
+
+    private TituloSugestaoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TituloSugestaoIndex(null);
+        index.carregar(Stream.of(
+                new TituloSugestaoResponse(1L, "Doutor em Física"),
+                new TituloSugestaoResponse(2L, "Doutora"),
+                new TituloSugestaoResponse(3L, "Mestre"),
+                new TituloSugestaoResponse(4L, "Técnico"),
+                new TituloSugestaoResponse(5L, "Tecnico")));
+    }
+
+    @Test
+    @DisplayName("Deve sugerir por prefixo em ordem alfabética, ignorando caixa e acentos")
+    void testSugerir() {
+        assertEquals(List.of("Doutor em Física", "Doutora"), descricoes(index.sugerir("  DOUT", 10)));
+        assertEquals(List.of("Doutor em Física"), descricoes(index.sugerir("doutor em fis", 10)));
+        assertEquals(List.of("Técnico", "Tecnico"), descricoes(index.sugerir("téc", 10)));
+        assertEquals(List.of("Doutor em Física"), descricoes(index.sugerir("d", 1)));
+        assertTrue(index.sugerir("x", 10).isEmpty());
+        assertTrue(index.stats().ready());
+        assertEquals(5, index.stats().entries());
+    }
+
+    @Test
+    @DisplayName("Deve refletir cadastro, renomeação e remoção de títulos")
+    void testAtualizacoesIncrementais() {
+        index.registrar(new TituloDTOResponse(6L, "Mestra", 0L));
+        index.registrar(new TituloDTOResponse(3L, "Pós-Doutor", 1L));
+        index.remover(2L);
+        index.remover(99L);
+
+        assertEquals(List.of("Mestra"), descricoes(index.sugerir("mest", 10)));
+        assertEquals(List.of("Pós-Doutor"), descricoes(index.sugerir("pos", 10)));
+        assertEquals(List.of("Doutor em Física"), descricoes(index.sugerir("dout", 10)));
+        assertEquals(5, index.stats().entries());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o índice sem desfazer alterações confirmadas durante a carga")
+    void testReconstrucaoComAlteracoesConcorrentes() {
+        index.carregar(Stream.of(
+                new TituloSugestaoResponse(1L, "Doutor em Física"),
+                new TituloSugestaoResponse(7L, "Livre-Docente"))
+                .peek(titulo -> {
+                    if (titulo.id() == 1L) {
+                        index.remover(7L);
+                        index.registrar(new TituloDTOResponse(1L, "Doutor em Química", 1L));
+                        index.registrar(new TituloDTOResponse(8L, "Bacharel", 0L));
+                    }
+                }));
+
+        assertEquals(List.of("Doutor em Química"), descricoes(index.sugerir("dout", 10)));
+        assertTrue(index.sugerir("livre", 10).isEmpty());
+        assertEquals(List.of("Bacharel"), descricoes(index.sugerir("bach", 10)));
+        assertTrue(index.sugerir("mestre", 10).isEmpty());
+        assertEquals(2, index.stats().entries());
+    }
+
+    private static List<String> descricoes(List<TituloSugestaoResponse> sugestoes) {
+        return sugestoes.stream().map(TituloSugestaoResponse::descricao).toList();
+    }
+}
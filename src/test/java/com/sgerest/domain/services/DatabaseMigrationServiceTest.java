@@ -0,0 +1,193 @@
+package com.sgerest.domain.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import com.sgerest.controller.DTO.maintenance.MigrationJobResponse;
+import com.sgerest.controller.DTO.maintenance.MigrationProgressResponse;
+import com.sgerest.exception.ArgumentNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do DatabaseMigrationService")
+class DatabaseMigrationServiceTest {
+
+    @Mock
+    private Flyway flyway;
+
+    @Mock
+    private MigrationAdvisoryLock lock;
+
+    @Mock
+    private MigrationAdvisoryLock.Bloqueio bloqueio;
+
+    @Mock
+    private MigrationInfoService infoService;
+
+    private final MigrationProgressCallback callback = new MigrationProgressCallback();
+
+    private final MigrationInfo v1 = migracao("1", "create table titulo");
+    private final MigrationInfo v2 = migracao("2", "create table professor");
+
+    private DatabaseMigrationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DatabaseMigrationService(flyway, lock, callback, Duration.ZERO, 20, "sge-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve executar as migrações em segundo plano registrando o andamento de cada uma")
+    void testJobConcluido() throws Exception {
+        when(lock.adquirir(Duration.ZERO)).thenReturn(Optional.of(bloqueio));
+        when(flyway.info()).thenReturn(infoService);
+        when(infoService.pending()).thenReturn(new MigrationInfo[] { v1, v2 });
+        when(flyway.migrate()).thenAnswer(invocation -> {
+            evento(Event.BEFORE_EACH_MIGRATE, v1);
+            evento(Event.AFTER_EACH_MIGRATE, v1);
+            evento(Event.BEFORE_EACH_MIGRATE, v2);
+            evento(Event.AFTER_EACH_MIGRATE, v2);
+            return resultado(2);
+        });
+
+        MigrationJobResponse agendado = service.iniciarMigracao();
+        MigrationJobResponse job = aguardar(agendado.id());
+
+        assertEquals("CONCLUIDO", job.status());
+        assertEquals("sge-1", job.instanceId());
+        assertEquals(2, job.migrationsExecuted());
+        assertEquals(2, job.migrationsTotal());
+        assertNotNull(job.startedAt());
+        assertNotNull(job.finishedAt());
+        assertNotNull(job.durationMillis());
+        for (MigrationProgressResponse migracao : job.migrations()) {
+            assertEquals("CONCLUIDA", migracao.status());
+            assertNotNull(migracao.durationMillis());
+        }
+        assertEquals("1", job.migrations().get(0).version());
+        assertEquals("create table professor", job.migrations().get(1).description());
+        verify(bloqueio).close();
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha e a migração que falhou, liberando o lock")
+    void testJobComFalha() throws Exception {
+        when(lock.adquirir(Duration.ZERO)).thenReturn(Optional.of(bloqueio));
+        when(flyway.info()).thenReturn(infoService);
+        when(infoService.pending()).thenReturn(new MigrationInfo[] { v1, v2 });
+        when(flyway.migrate()).thenAnswer(invocation -> {
+            evento(Event.BEFORE_EACH_MIGRATE, v1);
+            evento(Event.AFTER_EACH_MIGRATE, v1);
+            evento(Event.BEFORE_EACH_MIGRATE, v2);
+            evento(Event.AFTER_EACH_MIGRATE_ERROR, v2);
+            throw new FlywayException("erro de sintaxe em V2");
+        });
+
+        MigrationJobResponse job = aguardar(service.iniciarMigracao().id());
+
+        assertEquals("FALHOU", job.status());
+        assertEquals("erro de sintaxe em V2", job.message());
+        assertEquals(1, job.migrationsExecuted());
+        assertEquals("CONCLUIDA", job.migrations().get(0).status());
+        assertEquals("FALHOU", job.migrations().get(1).status());
+        verify(bloqueio).close();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o job quando outra instância mantém o lock")
+    void testJobIgnoradoSemLock() throws Exception {
+        when(lock.adquirir(Duration.ZERO)).thenReturn(Optional.empty());
+
+        MigrationJobResponse job = aguardar(service.iniciarMigracao().id());
+
+        assertEquals("IGNORADO", job.status());
+        assertNull(job.startedAt());
+        assertTrue(job.migrations().isEmpty());
+        verify(flyway, never()).migrate();
+    }
+
+    @Test
+    @DisplayName("Deve devolver o job em andamento em vez de agendar outro")
+    void testReaproveitaJobAtivo() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(lock.adquirir(Duration.ZERO)).thenAnswer(invocation -> {
+            liberar.await();
+            return Optional.empty();
+        });
+
+        MigrationJobResponse primeiro = service.iniciarMigracao();
+        MigrationJobResponse segundo = service.iniciarMigracao();
+        assertEquals(primeiro.id(), segundo.id());
+        assertEquals("AGUARDANDO_LOCK", segundo.status());
+        assertEquals(1, service.listarJobs().size());
+
+        liberar.countDown();
+        aguardar(primeiro.id());
+        assertNotEquals(primeiro.id(), service.iniciarMigracao().id());
+        assertEquals(2, service.listarJobs().size());
+        verify(lock, timeout(5000).times(2)).adquirir(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ArgumentNotFoundException para job inexistente")
+    void testJobNaoEncontrado() {
+        assertThrows(ArgumentNotFoundException.class, () -> service.buscarJob(UUID.randomUUID()));
+    }
+
+    private MigrationJobResponse aguardar(UUID id) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        MigrationJobResponse job = service.buscarJob(id);
+        while (job.finishedAt() == null && System.nanoTime() < limite) {
+            Thread.sleep(10);
+            job = service.buscarJob(id);
+        }
+        assertNotNull(job.finishedAt(), "O job não terminou");
+        return job;
+    }
+
+    private void evento(Event event, MigrationInfo info) {
+        Context context = mock(Context.class);
+        when(context.getMigrationInfo()).thenReturn(info);
+        callback.handle(event, context);
+    }
+
+    private static MigrateResult resultado(int executadas) {
+        MigrateResult result = new MigrateResult();
+        result.migrationsExecuted = executadas;
+        return result;
+    }
+
+    private static MigrationInfo migracao(String versao, String descricao) {
+        MigrationInfo info = mock(MigrationInfo.class);
+        lenient().when(info.getVersion()).thenReturn(MigrationVersion.fromVersion(versao));
+        lenient().when(info.getDescription()).thenReturn(descricao);
+        lenient().when(info.getScript()).thenReturn("V" + versao + "__" + descricao.replace(' ', '_') + ".sql");
+        return info;
+    }
+}
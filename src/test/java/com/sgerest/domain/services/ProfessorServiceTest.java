@@ -0,0 +1,95 @@
+package com.sgerest.domain.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import com.sgerest.controller.DTO.professor.ProfessorDTORequest;
+import com.sgerest.controller.DTO.professor.ProfessorDTOResponse;
+import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.domain.entities.ProfessorEntity;
+import com.sgerest.domain.entities.TituloEntity;
+import com.sgerest.domain.repository.ProfessorRepository;
+import com.sgerest.domain.repository.TituloRepository;
+import com.sgerest.exception.ArgumentNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ProfessorService")
+class ProfessorServiceTest {
+
+    @Mock
+    private ProfessorRepository professorRepository;
+
+    @Mock
+    private TituloRepository tituloRepository;
+
+    @Mock
+    private TituloService tituloService;
+
+    @InjectMocks
+    private ProfessorService professorService;
+
+    private final ProfessorDTORequest request = new ProfessorDTORequest(
+            1L, " Ana Souza ", "F", "C", LocalDate.of(1985, 3, 10), "61999990000", null, null);
+
+    @Test
+    @DisplayName("Deve cadastrar professor usando o título do cache, sem carregar a entidade do título")
+    void testCadastrarComSucesso() {
+        when(tituloService.getById(1L)).thenReturn(new TituloDTOResponse(1L, "Doutor", 0L));
+        TituloEntity referencia = new TituloEntity();
+        referencia.setId(1L);
+        when(tituloRepository.getReferenceById(1L)).thenReturn(referencia);
+        when(professorRepository.save(any(ProfessorEntity.class))).thenAnswer(invocation -> {
+            ProfessorEntity professor = invocation.getArgument(0);
+            professor.setId(7L);
+            professor.setAtivo(true);
+            professor.setDataContratacao(LocalDate.now());
+            return professor;
+        });
+
+        ProfessorDTOResponse response = professorService.cadastrar(request);
+
+        assertEquals(7L, response.id());
+        assertEquals("Ana Souza", response.nome());
+        assertEquals("Doutor", response.tituloDescricao());
+        assertTrue(response.ativo());
+        verify(tituloRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao cadastrar professor com título inexistente")
+    void testCadastrarComTituloInexistente() {
+        when(tituloService.getById(1L)).thenThrow(new ArgumentNotFoundException("Título com ID 1 não encontrado."));
+
+        assertThrows(ArgumentNotFoundException.class, () -> professorService.cadastrar(request));
+        verify(professorRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao buscar professor inexistente")
+    void testGetByIdInexistente() {
+        when(professorRepository.findDTOById(99L)).thenReturn(Optional.empty());
+
+        var exception = assertThrows(ArgumentNotFoundException.class, () -> professorService.getById(99L));
+        assertEquals("Professor com ID 99 não encontrado.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao deletar professor inexistente")
+    void testDeletarInexistente() {
+        when(professorRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ArgumentNotFoundException.class, () -> professorService.deletar(99L));
+        verify(professorRepository, never()).delete(any());
+    }
+}
@@ -2,6 +2,9 @@ package com.sgerest.domain.services;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,19 +13,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import com.sgerest.config.ReplicaRoutingDataSource;
+import com.sgerest.controller.DTO.PageResponse;
+import com.sgerest.controller.DTO.titulo.TituloBatchItemResponse;
+import com.sgerest.controller.DTO.titulo.TituloBatchResponse;
+import com.sgerest.controller.DTO.titulo.TituloBulkDeleteResponse;
 import com.sgerest.controller.DTO.titulo.TituloDTOResponse;
+import com.sgerest.domain.cache.TituloCache;
+import com.sgerest.domain.cache.TituloDescricaoIndex;
+import com.sgerest.domain.cache.TituloSugestaoIndex;
 import com.sgerest.domain.entities.TituloEntity;
+import com.sgerest.domain.repository.TituloBulkDeleteResult;
 import com.sgerest.domain.repository.TituloRepository;
 import com.sgerest.exception.ArgumentNotFoundException;
+import com.sgerest.exception.PreconditionFailedException;
 import com.sgerest.exception.TituloAlreadyExistsException;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,41 +56,60 @@ class TituloServiceTest {
     @Mock
     private TituloRepository tituloRepository;
 
+    @Mock
+    private TituloTotalEstimator tituloTotalEstimator;
+
+    @Spy
+    private TituloCache tituloCache = new TituloCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private TituloDescricaoIndex tituloDescricaoIndex = new TituloDescricaoIndex(null, true);
+
+    @Spy
+    private TituloSugestaoIndex tituloSugestaoIndex = new TituloSugestaoIndex(null);
+
+    @Spy
+    private TransactionOperations transacoes = TransactionOperations.withoutTransaction();
+
+    @Mock
+    private ObjectProvider<ReplicaRoutingDataSource> roteamentoLeituras;
+
     @InjectMocks
     private TituloService tituloService;
 
     private TituloEntity tituloEntity;
 
+    private final TituloDTOResponse tituloDTO = new TituloDTOResponse(1L, "Título Teste", 0L);
+
     @BeforeEach
     void setUp() {
         tituloEntity = new TituloEntity();
         tituloEntity.setId(1L);
         tituloEntity.setDescricao("Título Teste");
+        tituloEntity.setVersao(0L);
     }
 
     @Test
     @DisplayName("Deve cadastrar um título com sucesso")
     void testCadastrarComSucesso() {
         String descricao = "Novo Título";
-        TituloEntity entidadeSalva = new TituloEntity();
-        entidadeSalva.setId(1L);
-        entidadeSalva.setDescricao(descricao);
-        when(tituloRepository.save(any(TituloEntity.class))).thenReturn(entidadeSalva);
+        when(tituloRepository.insertIfAbsent(descricao)).thenReturn(Optional.of(1L));
 
         TituloDTOResponse response = tituloService.cadastrar(descricao);
 
         assertNotNull(response);
         assertEquals(1L, response.id());
         assertEquals(descricao, response.descricao());
-        verify(tituloRepository).save(any(TituloEntity.class));
+        verify(tituloRepository).insertIfAbsent(descricao);
+        verify(tituloRepository, never()).existsByDescricaoIgnoreCase(anyString());
     }
 
     @Test
     @DisplayName("Deve retornar TituloDTOResponse com id correto")
     void testRetornoComIdCorreto() {
-        when(tituloRepository.save(any(TituloEntity.class))).thenReturn(tituloEntity);
+        when(tituloRepository.insertIfAbsent("Teste")).thenReturn(Optional.of(1L));
 
-        TituloDTOResponse response = tituloService.cadastrar("Teste");
+        TituloDTOResponse response = tituloService.cadastrar(" Teste ");
 
         assertEquals(1L, response.id());
     }
@@ -75,66 +118,67 @@ class TituloServiceTest {
     @DisplayName("Deve lançar exceção ao tentar cadastrar título já existente")
     void testCadastrarTituloExistente() {
         String descricaoExistente = "Título Existente";
-        when(tituloRepository.existsByDescricaoIgnoreCase(descricaoExistente)).thenReturn(true);
+        when(tituloRepository.insertIfAbsent(descricaoExistente)).thenReturn(Optional.empty());
         TituloAlreadyExistsException exception = assertThrows(TituloAlreadyExistsException.class, () -> {
             tituloService.cadastrar(descricaoExistente);
         });
         assertEquals("Título com descrição 'Título Existente' já existe.", exception.getMessage());
-        verify(tituloRepository, never()).save(any(TituloEntity.class));
+        assertEquals(0, tituloCache.stats().size());
     }
 
     @Test
     @DisplayName("Deve buscar título por ID com sucesso")
     void testGetByIdComSucesso() {
         Long id = 1L;
-        when(tituloRepository.findById(id)).thenReturn(Optional.of(tituloEntity));
+        when(tituloRepository.findDTOById(id)).thenReturn(Optional.of(tituloDTO));
         TituloDTOResponse response = tituloService.getById(id);
         assertNotNull(response);
         assertEquals(id, response.id());
         assertEquals("Título Teste", response.descricao());
-        verify(tituloRepository).findById(id);
+        verify(tituloRepository).findDTOById(id);
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao buscar título por ID inexistente")
     void testGetByIdInexistente() {
         Long idInexistente = 99L;
-        when(tituloRepository.findById(idInexistente)).thenReturn(Optional.empty());
+        when(tituloRepository.findDTOById(idInexistente)).thenReturn(Optional.empty());
         var exception = assertThrows(ArgumentNotFoundException.class, () -> {
             tituloService.getById(idInexistente);
         });
         assertEquals("Título com ID 99 não encontrado.", exception.getMessage());
-        verify(tituloRepository).findById(idInexistente);
+        verify(tituloRepository).findDTOById(idInexistente);
     }
 
     @Test
     @DisplayName("Deve listar títulos com paginação")
     void testListarTodosComPaginacao() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<TituloEntity> titulos = List.of(tituloEntity);
-        Page<TituloEntity> pagina = new PageImpl<>(
+        List<TituloDTOResponse> titulos = List.of(tituloDTO);
+        Page<TituloDTOResponse> pagina = new PageImpl<>(
                 titulos, pageable, titulos.size());
-        when(tituloRepository.findAll(pageable)).thenReturn(pagina);
+        when(tituloRepository.findAllDTO(pageable)).thenReturn(pagina);
         var response = tituloService.listarTodos(pageable);
         assertNotNull(response);
         assertEquals(1, response.totalElements());
         assertEquals(1, response.content().size());
-        assertEquals(tituloEntity.getId(), response.content().get(0).id());
-        verify(tituloRepository).findAll(pageable);
+        assertEquals(tituloDTO.id(), response.content().get(0).id());
+        verify(tituloRepository).findAllDTO(pageable);
+        verify(tituloRepository, never()).findAll(any(Pageable.class));
     }
 
     @Test
     @DisplayName("Deve retornar página vazia quando não houver títulos")
     void testListarTodosSemTítulos() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<TituloEntity> paginaVazia = new PageImpl<>(
+        Page<TituloDTOResponse> paginaVazia = new PageImpl<>(
                 List.of(), pageable, 0);
-        when(tituloRepository.findAll(pageable)).thenReturn(paginaVazia);
+        when(tituloRepository.findAllDTO(pageable)).thenReturn(paginaVazia);
         var response = tituloService.listarTodos(pageable);
         assertNotNull(response);
         assertEquals(0, response.totalElements());
         assertTrue(response.content().isEmpty());
-        verify(tituloRepository).findAll(pageable);
+        verify(tituloRepository).findAllDTO(pageable);
     }
 
     @Test
@@ -142,22 +186,15 @@ class TituloServiceTest {
     void testAtualizarComSucesso() {
         Long id = 1L;
         String novaDescricao = "Título Atualizado";
-        TituloEntity tituloExistente = new TituloEntity();
-        tituloExistente.setId(id);
-        tituloExistente.setDescricao("Título Antigo");
-        when(tituloRepository.findById(id)).thenReturn(Optional.of(tituloExistente));
-        when(tituloRepository.existsByDescricaoIgnoreCase(novaDescricao)).thenReturn(false);
-        TituloEntity tituloAtualizado = new TituloEntity();
-        tituloAtualizado.setId(id);
-        tituloAtualizado.setDescricao(novaDescricao);
-        when(tituloRepository.save(any(TituloEntity.class))).thenReturn(tituloAtualizado);
+        when(tituloRepository.updateDescricao(id, novaDescricao, null))
+                .thenReturn(Optional.of(new TituloDTOResponse(id, novaDescricao, 1L)));
         TituloDTOResponse response = tituloService.atualizar(id, novaDescricao);
         assertNotNull(response);
         assertEquals(id, response.id());
         assertEquals(novaDescricao, response.descricao());
-        verify(tituloRepository).findById(id);
-        verify(tituloRepository).existsByDescricaoIgnoreCase(novaDescricao);
-        verify(tituloRepository).save(any(TituloEntity.class));
+        verify(tituloRepository).updateDescricao(id, novaDescricao, null);
+        verify(tituloRepository, never()).findById(id);
+        verify(tituloRepository, never()).existsByDescricaoIgnoreCase(anyString());
     }
 
     @Test
@@ -165,18 +202,13 @@ class TituloServiceTest {
     void testAtualizarParaDescricaoExistente() {
         Long id = 1L;
         String descricaoExistente = "Título Existente";
-        TituloEntity tituloExistente = new TituloEntity();
-        tituloExistente.setId(id);
-        tituloExistente.setDescricao("Título Antigo");
-        when(tituloRepository.findById(id)).thenReturn(Optional.of(tituloExistente));
-        when(tituloRepository.existsByDescricaoIgnoreCase(descricaoExistente)).thenReturn(true);
+        when(tituloRepository.updateDescricao(id, descricaoExistente, null))
+                .thenThrow(new DataIntegrityViolationException("uk_titulo_descricao_lower"));
         TituloAlreadyExistsException exception = assertThrows(TituloAlreadyExistsException.class, () -> {
             tituloService.atualizar(id, descricaoExistente);
         });
         assertEquals("Título com descrição 'Título Existente' já existe.", exception.getMessage());
-        verify(tituloRepository).findById(id);
-        verify(tituloRepository).existsByDescricaoIgnoreCase(descricaoExistente);
-        verify(tituloRepository, never()).save(any(TituloEntity.class));
+        verify(tituloRepository).updateDescricao(id, descricaoExistente, null);
     }
 
     @Test
@@ -184,13 +216,11 @@ class TituloServiceTest {
     void testAtualizarTituloInexistente() {
         Long idInexistente = 99L;
         String novaDescricao = "Título Atualizado";
-        when(tituloRepository.findById(idInexistente)).thenReturn(Optional.empty());
+        when(tituloRepository.updateDescricao(idInexistente, novaDescricao, null)).thenReturn(Optional.empty());
         var exception = assertThrows(ArgumentNotFoundException.class,
                 () -> tituloService.atualizar(idInexistente, novaDescricao));
         assertEquals("Título com ID 99 não encontrado.", exception.getMessage());
-        verify(tituloRepository).findById(idInexistente);
-        verify(tituloRepository, never()).existsByDescricaoIgnoreCase(anyString());
-        verify(tituloRepository, never()).save(any(TituloEntity.class));
+        verify(tituloRepository).updateDescricao(idInexistente, novaDescricao, null);
     }
 
     @Test
@@ -218,4 +248,313 @@ class TituloServiceTest {
         verify(tituloRepository).findById(idInexistente);
         verify(tituloRepository, never()).delete(any(TituloEntity.class));
     }
+
+    @Test
+    @DisplayName("Deve cadastrar lote com uma única consulta de duplicidade")
+    void testCadastrarEmLote() {
+        when(tituloRepository.findDescricoesExistentes(anyCollection())).thenReturn(List.of("existente"));
+        simularSaveAllComIds();
+
+        TituloBatchResponse response = tituloService.cadastrarEmLote(
+                Arrays.asList(" Novo ", "Existente", "novo", null, "Outro"));
+
+        assertEquals(5, response.total());
+        assertEquals(2, response.criados());
+        assertEquals(3, response.rejeitados());
+        assertEquals(TituloBatchItemResponse.Status.CRIADO, response.itens().get(0).status());
+        assertEquals("Novo", response.itens().get(0).descricao());
+        assertEquals(10L, response.itens().get(0).id());
+        assertEquals(TituloBatchItemResponse.Status.DUPLICADO, response.itens().get(1).status());
+        assertEquals(TituloBatchItemResponse.Status.DUPLICADO, response.itens().get(2).status());
+        assertEquals(TituloBatchItemResponse.Status.INVALIDO, response.itens().get(3).status());
+        assertEquals(11L, response.itens().get(4).id());
+        verify(tituloRepository).findDescricoesExistentes(anyCollection());
+        verify(tituloRepository, never()).existsByDescricaoIgnoreCase(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do tamanho máximo")
+    void testCadastrarEmLoteAcimaDoLimite() {
+        List<String> descricoes = new ArrayList<>();
+        for (int i = 0; i <= TituloService.TAMANHO_MAXIMO_LOTE; i++) {
+            descricoes.add("Título " + i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> tituloService.cadastrarEmLote(descricoes));
+        verify(tituloRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve listar títulos sem executar contagem quando total = NONE")
+    void testListarTodosSemContagem() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(tituloRepository.findAllDTOBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(tituloDTO), pageable, true));
+
+        var response = tituloService.listarTodos(pageable, PageResponse.TotalType.NONE);
+
+        assertEquals(PageResponse.TotalType.NONE, response.totalType());
+        assertNull(response.totalElements());
+        assertNull(response.totalPages());
+        assertTrue(response.hasNext());
+        verify(tituloRepository, never()).findAllDTO(pageable);
+        verifyNoInteractions(tituloTotalEstimator);
+    }
+
+    @Test
+    @DisplayName("Deve listar títulos com total estimado sem COUNT(*) da página")
+    void testListarTodosComTotalEstimado() {
+        Pageable pageable = PageRequest.of(1, 10);
+        when(tituloRepository.findAllDTOBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(tituloDTO), pageable, false));
+        when(tituloTotalEstimator.estimarTotal()).thenReturn(5L);
+
+        var response = tituloService.listarTodos(pageable, PageResponse.TotalType.ESTIMATED);
+
+        assertEquals(PageResponse.TotalType.ESTIMATED, response.totalType());
+        assertEquals(11L, response.totalElements());
+        assertEquals(2, response.totalPages());
+        verify(tituloRepository, never()).findAllDTO(pageable);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar em cache títulos e páginas lidos de uma réplica")
+    void testLeiturasDaReplicaForaDosCaches() {
+        ReplicaRoutingDataSource roteamento = mock(ReplicaRoutingDataSource.class);
+        when(roteamentoLeituras.getIfAvailable()).thenReturn(roteamento);
+        when(roteamento.lerComDestinoFixado(any()))
+                .thenAnswer(invocation -> invocation.<Function<Boolean, Object>>getArgument(0).apply(true));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(tituloRepository.findDTOById(1L)).thenReturn(Optional.of(tituloDTO));
+        when(tituloRepository.findAllDTO(pageable)).thenReturn(new PageImpl<>(List.of(tituloDTO), pageable, 1));
+
+        tituloService.getById(1L);
+        tituloService.getById(1L);
+        tituloService.listarTodos(pageable);
+
+        verify(tituloRepository, times(2)).findDTOById(1L);
+        assertEquals(0, tituloCache.stats().size());
+        verify(tituloRepository).ignorarCacheDeSegundoNivel();
+    }
+
+    @Test
+    @DisplayName("Deve servir getById do cache após a primeira leitura")
+    void testGetByIdUsaCache() {
+        when(tituloRepository.findDTOById(1L)).thenReturn(Optional.of(tituloDTO));
+
+        tituloService.getById(1L);
+        TituloDTOResponse response = tituloService.getById(1L);
+
+        assertEquals("Título Teste", response.descricao());
+        verify(tituloRepository, times(1)).findDTOById(1L);
+        assertEquals(1, tituloCache.stats().hitCount());
+        assertEquals(1, tituloCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache ao atualizar e deletar")
+    void testInvalidaCacheAoEscrever() {
+        when(tituloRepository.findDTOById(1L)).thenReturn(Optional.of(tituloDTO));
+        when(tituloRepository.findById(1L)).thenReturn(Optional.of(tituloEntity));
+        when(tituloRepository.updateDescricao(1L, "Título Novo", null))
+                .thenReturn(Optional.of(new TituloDTOResponse(1L, "Título Novo", 1L)));
+
+        tituloService.getById(1L);
+        tituloService.atualizar(1L, "Título Novo");
+        tituloService.getById(1L);
+        tituloService.deletar(1L);
+
+        verify(tituloCache, times(2)).evict(1L);
+        assertEquals(2, tituloCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar em cache título inexistente")
+    void testGetByIdInexistenteNaoCacheia() {
+        when(tituloRepository.findDTOById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ArgumentNotFoundException.class, () -> tituloService.getById(99L));
+        assertThrows(ArgumentNotFoundException.class, () -> tituloService.getById(99L));
+
+        verify(tituloRepository, times(2)).findDTOById(99L);
+        assertEquals(0, tituloCache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Deve consultar duplicidade do lote apenas para descrições que o índice não descarta")
+    void testCadastrarEmLoteConsultaApenasSuspeitas() {
+        tituloDescricaoIndex.carregar(Stream.of("Mestre", "Doutor"));
+        when(tituloRepository.findDescricoesExistentes(anyCollection())).thenReturn(List.of("mestre"));
+        simularSaveAllComIds();
+
+        TituloBatchResponse response = tituloService.cadastrarEmLote(List.of("MESTRE", "Especialista"));
+
+        assertEquals(1, response.criados());
+        verify(tituloRepository).findDescricoesExistentes(Set.of("mestre"));
+        assertFalse(tituloDescricaoIndex.podeConter("Bacharel"));
+        assertTrue(tituloDescricaoIndex.podeConter("especialista"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar item a item quando o lote viola o índice único no flush")
+    void testCadastrarEmLoteComConflitoConcorrente() {
+        when(tituloRepository.findDescricoesExistentes(anyCollection())).thenReturn(List.of());
+        when(tituloRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_titulo_descricao_lower"));
+        when(tituloRepository.insertIfAbsent("Mestre")).thenReturn(Optional.empty());
+        when(tituloRepository.insertIfAbsent("Doutor")).thenReturn(Optional.of(20L));
+
+        TituloBatchResponse response = tituloService.cadastrarEmLote(List.of("Mestre", "Doutor", ""));
+
+        assertEquals(1, response.criados());
+        assertEquals(TituloBatchItemResponse.Status.DUPLICADO, response.itens().get(0).status());
+        assertEquals(20L, response.itens().get(1).id());
+        assertEquals(TituloBatchItemResponse.Status.INVALIDO, response.itens().get(2).status());
+        verify(transacoes, times(2)).executeWithoutResult(any());
+        assertEquals(Optional.of(new TituloDTOResponse(20L, "Doutor", 0L)), tituloCache.getIfPresent(20L));
+    }
+
+    @Test
+    @DisplayName("Deve consultar todo o lote no banco quando o índice não é da única instância")
+    void testCadastrarEmLoteSemInstanciaUnica() {
+        TituloDescricaoIndex compartilhado = new TituloDescricaoIndex(null, false);
+        compartilhado.carregar(Stream.of("Mestre"));
+        TituloService service = new TituloService(tituloRepository, tituloTotalEstimator, tituloCache,
+                compartilhado, tituloSugestaoIndex, transacoes, roteamentoLeituras);
+        simularSaveAllComIds();
+
+        TituloBatchResponse response = service.cadastrarEmLote(List.of("Doutor"));
+
+        assertEquals(1, response.criados());
+        verify(tituloRepository).findDescricoesExistentes(Set.of("doutor"));
+        assertEquals(0, compartilhado.stats().queriesAvoided());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar duplicidade quando o índice descarta todo o lote")
+    void testCadastrarEmLoteSemSuspeitas() {
+        tituloDescricaoIndex.carregar(Stream.of("Mestre"));
+        simularSaveAllComIds();
+
+        TituloBatchResponse response = tituloService.cadastrarEmLote(List.of("Doutor", "Especialista"));
+
+        assertEquals(2, response.criados());
+        verify(tituloRepository, never()).findDescricoesExistentes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve obter a versão do cache sem consultar o banco")
+    void testGetVersaoDoCache() {
+        when(tituloRepository.findDTOById(1L)).thenReturn(Optional.of(tituloDTO));
+        tituloService.getById(1L);
+
+        assertEquals(0L, tituloService.getVersao(1L));
+        verify(tituloRepository, never()).findVersaoById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve obter a versão consultando apenas a coluna de versão")
+    void testGetVersaoSemCache() {
+        when(tituloRepository.findVersaoById(1L)).thenReturn(Optional.of(3L));
+
+        assertEquals(3L, tituloService.getVersao(1L));
+        verify(tituloRepository, never()).findById(1L);
+        assertThrows(ArgumentNotFoundException.class, () -> tituloService.getVersao(2L));
+    }
+
+    @Test
+    @DisplayName("Deve lançar 412 quando a versão esperada não confere")
+    void testAtualizarComVersaoDesatualizada() {
+        when(tituloRepository.updateDescricao(1L, "Novo", 2L)).thenReturn(Optional.empty());
+        when(tituloRepository.findVersaoById(1L)).thenReturn(Optional.of(3L));
+
+        assertThrows(PreconditionFailedException.class, () -> tituloService.atualizar(1L, "Novo", 2L));
+        verify(tituloCache, never()).evict(1L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar 404 na atualização condicional de título inexistente")
+    void testAtualizarCondicionalTituloInexistente() {
+        when(tituloRepository.updateDescricao(99L, "Novo", 0L)).thenReturn(Optional.empty());
+        when(tituloRepository.findVersaoById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ArgumentNotFoundException.class, () -> tituloService.atualizar(99L, "Novo", 0L));
+    }
+
+    @Test
+    @DisplayName("Não deve consultar a versão quando a atualização condicional é aplicada")
+    void testAtualizarCondicionalComSucesso() {
+        when(tituloRepository.updateDescricao(1L, "Novo", 0L))
+                .thenReturn(Optional.of(new TituloDTOResponse(1L, "Novo", 1L)));
+
+        TituloDTOResponse response = tituloService.atualizar(1L, "Novo", 0L);
+
+        assertEquals(1L, response.versao());
+        verify(tituloRepository, never()).findVersaoById(anyLong());
+        verify(tituloRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar If-Match com várias versões usando a versão atual quando ela está na lista")
+    void testAtualizarCondicionalComVariasVersoes() {
+        when(tituloRepository.findVersaoById(1L)).thenReturn(Optional.of(4L));
+        when(tituloRepository.updateDescricao(1L, "Novo", 4L))
+                .thenReturn(Optional.of(new TituloDTOResponse(1L, "Novo", 5L)));
+
+        TituloDTOResponse response = tituloService.atualizarCondicional(1L, "Novo", Set.of(2L, 4L));
+
+        assertEquals(5L, response.versao());
+        assertThrows(PreconditionFailedException.class,
+                () -> tituloService.atualizarCondicional(1L, "Novo", Set.of()));
+        verify(tituloRepository, times(1)).updateDescricao(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve deletar em lote, informar IDs não encontrados e invalidar o cache")
+    void testDeletarEmLote() {
+        when(tituloRepository.deleteAllByIdIn(anyCollection())).thenReturn(new TituloBulkDeleteResult(
+                List.of(new TituloDTOResponse(1L, "Título 1", 0L), new TituloDTOResponse(3L, "Título 3", 2L)), 4));
+
+        TituloBulkDeleteResponse response = tituloService.deletarEmLote(List.of(1L, 2L, 3L, 1L));
+
+        assertEquals(3, response.solicitados());
+        assertEquals(List.of(1L, 3L), response.removidos());
+        assertEquals(List.of(2L), response.naoEncontrados());
+        assertEquals(4, response.professoresRemovidosEmCascata());
+        verify(tituloRepository).deleteAllByIdIn(Set.of(1L, 2L, 3L));
+        verify(tituloCache).evictAll(List.of(1L, 3L));
+        verify(tituloDescricaoIndex).remover("Título 1");
+        verify(tituloDescricaoIndex).remover("Título 3");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote de exclusão vazio")
+    void testDeletarEmLoteVazio() {
+        assertThrows(IllegalArgumentException.class, () -> tituloService.deletarEmLote(List.of()));
+        verify(tituloRepository, never()).deleteAllByIdIn(anyCollection());
+    }
+
+    private void simularSaveAllComIds() {
+        when(tituloRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<TituloEntity> entidades = new ArrayList<>(invocation.getArgument(0));
+            for (int i = 0; i < entidades.size(); i++) {
+                entidades.get(i).setId(10L + i);
+            }
+            return entidades;
+        });
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o termo da busca e rejeitar termos curtos sem consultar o banco")
+    void testBuscar() {
+        List<TituloDTOResponse> encontrados = List.of(new TituloDTOResponse(1L, "Engenharia", 0L));
+        when(tituloRepository.searchByDescricao("engenharia", 10)).thenReturn(encontrados);
+
+        assertEquals(encontrados, tituloService.buscar("  engenharia ", 10));
+        assertThrows(IllegalArgumentException.class, () -> tituloService.buscar("ab", 10));
+        assertThrows(IllegalArgumentException.class, () -> tituloService.buscar(null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> tituloService.buscar("engenharia", BuscaTextual.LIMITE_MAXIMO + 1));
+        verify(tituloRepository, times(1)).searchByDescricao(any(), anyInt());
+    }
+
 }
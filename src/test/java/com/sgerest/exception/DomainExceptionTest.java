@@ -0,0 +1,22 @@
+package com.sgerest.exception;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes das exceções de domínio")
+class DomainExceptionTest {
+
+    @Test
+    @DisplayName("Não deve capturar stack trace nem aceitar suppressed por padrão")
+    void testSemStackTrace() {
+        ArgumentNotFoundException ex = new ArgumentNotFoundException("Título com ID 1 não encontrado.");
+        ex.addSuppressed(new IllegalStateException());
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(0, ex.getSuppressed().length);
+        assertEquals("Título com ID 1 não encontrado.", ex.getMessage());
+        assertEquals(0, new TituloAlreadyExistsException("Mestre").getStackTrace().length);
+    }
+}